@@ -0,0 +1,35 @@
+package com.bentahsin.languagemanager;
+
+import com.bentahsin.languagemanager.proxy.MessageProxyHandler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Benchmark'ların, sunucu gerektiren Adventure platformu olmadan bir LanguageManager oluşturmasını sağlar.
+ * {@link LanguageManagerBuilder#build()} ile aynı hazırlama adımlarını izler, ancak BukkitAudiences oluşturmaz.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * @param builder Yapılandırılmış builder.
+     * @param interfaces Hazırlanacak mesaj arayüzleri.
+     * @return Adventure olmadan çalışan LanguageManager.
+     */
+    public static LanguageManager build(LanguageManagerBuilder builder, Class<?>... interfaces) {
+        builder.register(interfaces);
+        Map<Class<?>, Object> proxies = new ConcurrentHashMap<>();
+        List<MessageProxyHandler> fileHandlers = new CopyOnWriteArrayList<>();
+        Map<Class<?>, Duration> timings = new ConcurrentHashMap<>();
+        for (Class<?> interfaceClass : interfaces) {
+            proxies.put(interfaceClass, builder.initialize(interfaceClass, fileHandlers, timings));
+        }
+        return new LanguageManager(builder.getPlugin(), builder, proxies, fileHandlers, timings, null);
+    }
+}
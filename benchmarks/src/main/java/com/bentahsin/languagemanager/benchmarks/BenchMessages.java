@@ -0,0 +1,47 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import com.bentahsin.languagemanager.annotations.Message;
+import com.bentahsin.languagemanager.annotations.Messages;
+import net.kyori.adventure.text.Component;
+import org.bukkit.OfflinePlayer;
+
+import java.util.List;
+
+/**
+ * Render benchmark'larında kullanılan dosya tabanlı mesaj arayüzü.
+ * Metot adlarındaki sayı, {@code viewer} dışındaki placeholder argümanlarının sayısıdır;
+ * {@code viewer} yalnızca PlaceholderAPI için kullanılır.
+ */
+@Messages(filePrefix = "bench")
+public interface BenchMessages {
+
+    @Message(key = "string.zero", value = "&aWelcome to the server, &e%player_name%&a!")
+    String string0(OfflinePlayer viewer);
+
+    @Message(key = "string.one", value = "&aWelcome, &e{name}&a! Logged in as &7%player_name%&a.")
+    String string1(OfflinePlayer viewer, String name);
+
+    @Message(key = "string.five", value = "&e{buyer} &7paid &e{seller} &6{amount} &7coins for &f{item} &7in &b{world}&7. &8(%player_name%)")
+    String string5(OfflinePlayer viewer, String buyer, String seller, int amount, String item, String world);
+
+    @Message(key = "string.formatted", value = "&e{buyer} &7paid &6{amount,currency} &7for &f{count,plural,one{# item} other{# items}}&7. &8(%player_name%)")
+    String stringFormatted(OfflinePlayer viewer, String buyer, double amount, int count);
+
+    @Message(key = "list.zero", value = "&6Server rules for %player_name%")
+    List<String> list0(OfflinePlayer viewer);
+
+    @Message(key = "list.one", value = "&6Profile of &e{name}")
+    List<String> list1(OfflinePlayer viewer, String name);
+
+    @Message(key = "list.five", value = "&6Trade: &e{buyer} &7-> &e{seller}")
+    List<String> list5(OfflinePlayer viewer, String buyer, String seller, int amount, String item, String world);
+
+    @Message(key = "component.zero", value = "<green>Welcome to the server, <yellow>%player_name%</yellow>!</green>")
+    Component component0(OfflinePlayer viewer);
+
+    @Message(key = "component.one", value = "<green>Welcome, <yellow>{name}</yellow>! Logged in as <gray>%player_name%</gray>.</green>")
+    Component component1(OfflinePlayer viewer, String name);
+
+    @Message(key = "component.five", value = "<yellow>{buyer}</yellow> <gray>paid</gray> <yellow>{seller}</yellow> <gold>{amount}</gold> <gray>coins for</gray> <white>{item}</white> <gray>in</gray> <aqua>{world}</aqua>. <dark_gray>(%player_name%)</dark_gray>")
+    Component component5(OfflinePlayer viewer, String buyer, String seller, int amount, String item, String world);
+}
@@ -0,0 +1,44 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import com.bentahsin.languagemanager.annotations.SystemMessages;
+import com.bentahsin.languagemanager.annotations.Translation;
+import net.kyori.adventure.text.Component;
+
+import java.util.List;
+
+/**
+ * Render benchmark'larında kullanılan gömülü sistem mesajı arayüzü.
+ */
+@SystemMessages(defaultLocale = "en")
+public interface BenchSystemMessages {
+
+    @Translation(locale = "en", value = "&cYou do not have permission to do that.")
+    @Translation(locale = "tr", value = "&cBunu yapmak için yetkiniz yok.")
+    String string0();
+
+    @Translation(locale = "en", value = "&cPlayer &e{name} &cis not online.")
+    @Translation(locale = "tr", value = "&e{name} &cadlı oyuncu çevrimiçi değil.")
+    String string1(String name);
+
+    @Translation(locale = "en", value = "&e{buyer} &7paid &e{seller} &6{amount} &7coins for &f{item} &7in &b{world}&7.")
+    @Translation(locale = "tr", value = "&e{buyer}&7, &e{seller}&7 adlı oyuncuya &f{item} &7için &b{world}&7 dünyasında &6{amount} &7coin ödedi.")
+    String string5(String buyer, String seller, int amount, String item, String world);
+
+    @Translation(locale = "en", value = "&6Usage:\n&e/lang reload\n&e/lang info")
+    List<String> list0();
+
+    @Translation(locale = "en", value = "&6Profile of &e{name}\n&7Rank: &fMember\n&7Status: &aOnline")
+    List<String> list1(String name);
+
+    @Translation(locale = "en", value = "&6Trade\n&e{buyer} &7-> &e{seller}\n&6{amount} &7coins\n&f{item} &7in &b{world}")
+    List<String> list5(String buyer, String seller, int amount, String item, String world);
+
+    @Translation(locale = "en", value = "<red>You do not have permission to do that.</red>")
+    Component component0();
+
+    @Translation(locale = "en", value = "<red>Player <yellow>{name}</yellow> is not online.</red>")
+    Component component1(String name);
+
+    @Translation(locale = "en", value = "<yellow>{buyer}</yellow> <gray>paid</gray> <yellow>{seller}</yellow> <gold>{amount}</gold> <gray>coins for</gray> <white>{item}</white> <gray>in</gray> <aqua>{world}</aqua>.")
+    Component component5(String buyer, String seller, int amount, String item, String world);
+}
@@ -0,0 +1,115 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import com.bentahsin.languagemanager.BenchmarkSupport;
+import com.bentahsin.languagemanager.LanguageManager;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ana thread dışı render'ın thread güvenliği için stres ölçümü.
+ * <p>
+ * Üç thread sürekli mesaj işlerken bir thread dil dosyasını iki sürüm arasında değiştirip yeniden yükler.
+ * Her render sonucu, iki sürümden birinin tam çıktısıyla karşılaştırılır; yarım yayınlanmış bir katalog,
+ * null değer veya karışık satırlar görülürse benchmark bir hata ile durur. Aynı kontrol, CI'da her derlemede
+ * çalışan {@code ConcurrentReloadTest} birim testinde de yapılır; bu sınıf yük altındaki verimi ölçer.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentReloadBenchmark {
+
+    private static final String VERSION_A = " [a]";
+    private static final String VERSION_B = " [b]";
+
+    private File dataFolder;
+    private LanguageManager manager;
+    private BenchMessages messages;
+    private Player viewer;
+    private String stringA;
+    private String stringB;
+    private List<String> listA;
+    private List<String> listB;
+    private boolean nextVersionA;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("languagemanager-concurrent").toFile();
+        SyntheticPack.write(dataFolder, 100, VERSION_B);
+        manager = BenchmarkSupport.build(LanguageManager.create(StandIns.plugin(dataFolder)).withLocale("en").withPapiHook(), BenchMessages.class);
+        messages = manager.get(BenchMessages.class);
+        viewer = StandIns.player("Notch", "en_us");
+
+        stringB = string();
+        listB = list();
+        SyntheticPack.write(dataFolder, 100, VERSION_A);
+        manager.reload();
+        stringA = string();
+        listA = list();
+        nextVersionA = false;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        manager.disable();
+        SyntheticPack.delete(dataFolder);
+    }
+
+    private String string() {
+        return messages.string5(viewer, "Steve", "Alex", 250, "Diamond Sword", "world_nether");
+    }
+
+    private List<String> list() {
+        return messages.list1(viewer, "Steve");
+    }
+
+    @Benchmark
+    @Group("renderDuringReload")
+    @GroupThreads(3)
+    public String render() {
+        String result = string();
+        if (!stringA.equals(result) && !stringB.equals(result)) {
+            throw new IllegalStateException("Torn string render: " + result);
+        }
+        List<String> lines = list();
+        if (!listA.equals(lines) && !listB.equals(lines)) {
+            throw new IllegalStateException("Torn list render: " + lines);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @Group("renderDuringReload")
+    @GroupThreads(1)
+    public void reload() {
+        try {
+            SyntheticPack.write(dataFolder, 100, nextVersionA ? VERSION_A : VERSION_B);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        nextVersionA = !nextVersionA;
+        manager.reload();
+    }
+}
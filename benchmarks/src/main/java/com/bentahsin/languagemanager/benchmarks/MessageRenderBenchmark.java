@@ -0,0 +1,133 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import com.bentahsin.languagemanager.BenchmarkSupport;
+import com.bentahsin.languagemanager.LanguageManager;
+import com.bentahsin.languagemanager.LanguageManagerBuilder;
+import com.bentahsin.languagemanager.proxy.PreparedMessage;
+import net.kyori.adventure.text.Component;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dosya tabanlı mesajların render maliyetini ölçer (MessageProxyHandler).
+ * Metin, liste ve Component çıktıları; 0, 1 ve 5 placeholder argümanı; para birimi ve çoğul biçimli
+ * placeholder'lar; prefix ve PlaceholderAPI açık/kapalı kombinasyonları için çalışır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageRenderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean prefix;
+
+    @Param({"false", "true"})
+    public boolean papi;
+
+    private File dataFolder;
+    private LanguageManager manager;
+    private BenchMessages messages;
+    private Player viewer;
+    private PreparedMessage<String> preparedString5;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("languagemanager-render").toFile();
+        SyntheticPack.write(dataFolder, 0);
+
+        LanguageManagerBuilder builder = LanguageManager.create(StandIns.plugin(dataFolder))
+                .withLocale("en")
+                .withPrefix(prefix ? "&8[&bBench&8] &r" : "");
+        if (papi) {
+            builder.withPapiHook();
+        }
+        manager = BenchmarkSupport.build(builder, BenchMessages.class);
+        messages = manager.get(BenchMessages.class);
+        viewer = StandIns.player("Notch", "en_us");
+        preparedString5 = manager.prepare(BenchMessages.class, "string5",
+                OfflinePlayer.class, String.class, String.class, int.class, String.class, String.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        manager.disable();
+        SyntheticPack.delete(dataFolder);
+    }
+
+    @Benchmark
+    public String string0() {
+        return messages.string0(viewer);
+    }
+
+    @Benchmark
+    public String string1() {
+        return messages.string1(viewer, "Steve");
+    }
+
+    @Benchmark
+    public String string5() {
+        return messages.string5(viewer, "Steve", "Alex", 250, "Diamond Sword", "world_nether");
+    }
+
+    @Benchmark
+    public String stringFormatted() {
+        return messages.stringFormatted(viewer, "Steve", 1234.5, 64);
+    }
+
+    @Benchmark
+    public List<String> list0() {
+        return messages.list0(viewer);
+    }
+
+    @Benchmark
+    public List<String> list1() {
+        return messages.list1(viewer, "Steve");
+    }
+
+    @Benchmark
+    public List<String> list5() {
+        return messages.list5(viewer, "Steve", "Alex", 250, "Diamond Sword", "world_nether");
+    }
+
+    @Benchmark
+    public Component component0() {
+        return messages.component0(viewer);
+    }
+
+    @Benchmark
+    public Component component1() {
+        return messages.component1(viewer, "Steve");
+    }
+
+    @Benchmark
+    public Component component5() {
+        return messages.component5(viewer, "Steve", "Alex", 250, "Diamond Sword", "world_nether");
+    }
+
+    @Benchmark
+    public String preparedString5Unchanged() {
+        return preparedString5.render(viewer, "Steve", "Alex", 250, "Diamond Sword", "world_nether");
+    }
+}
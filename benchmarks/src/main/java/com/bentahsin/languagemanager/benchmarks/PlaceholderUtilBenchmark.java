@@ -0,0 +1,62 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import com.bentahsin.languagemanager.util.PlaceholderUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Derlenmiş şablon kullanmayan {@link PlaceholderUtil#applyInternalPlaceholders} yolunun maliyetini ölçer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderUtilBenchmark {
+
+    private static final String MESSAGE_ZERO = "&cYou do not have permission to do that.";
+    private static final String MESSAGE_ONE = "&cPlayer &e{name} &cis not online.";
+    private static final String MESSAGE_FIVE = "&e{buyer} &7paid &e{seller} &6{amount} &7coins for &f{item} &7in &b{world}&7.";
+
+    private Method zero;
+    private Method one;
+    private Method five;
+    private Object[] oneArgs;
+    private Object[] fiveArgs;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        zero = BenchSystemMessages.class.getMethod("string0");
+        one = BenchSystemMessages.class.getMethod("string1", String.class);
+        five = BenchSystemMessages.class.getMethod("string5", String.class, String.class, int.class, String.class, String.class);
+        oneArgs = new Object[]{"Steve"};
+        fiveArgs = new Object[]{"Steve", "Alex", 250, "Diamond Sword", "world_nether"};
+    }
+
+    @Benchmark
+    public String zeroArgs() {
+        return PlaceholderUtil.applyInternalPlaceholders(MESSAGE_ZERO, zero, null);
+    }
+
+    @Benchmark
+    public String oneArg() {
+        return PlaceholderUtil.applyInternalPlaceholders(MESSAGE_ONE, one, oneArgs);
+    }
+
+    @Benchmark
+    public String fiveArgs() {
+        return PlaceholderUtil.applyInternalPlaceholders(MESSAGE_FIVE, five, fiveArgs);
+    }
+}
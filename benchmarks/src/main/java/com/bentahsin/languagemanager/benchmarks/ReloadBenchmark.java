@@ -0,0 +1,58 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import com.bentahsin.languagemanager.BenchmarkSupport;
+import com.bentahsin.languagemanager.LanguageManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LanguageManager#reload()} maliyetini sentetik, büyük bir dil dosyası üzerinde ölçer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReloadBenchmark {
+
+    @Param({"5000"})
+    public int keys;
+
+    private File dataFolder;
+    private LanguageManager manager;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("languagemanager-reload").toFile();
+        SyntheticPack.write(dataFolder, keys);
+        manager = BenchmarkSupport.build(LanguageManager.create(StandIns.plugin(dataFolder)).withLocale("en"), BenchMessages.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        manager.disable();
+        SyntheticPack.delete(dataFolder);
+    }
+
+    @Benchmark
+    public void reload() {
+        manager.reload();
+    }
+}
@@ -0,0 +1,162 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Benchmark'ların bir Minecraft sunucusu olmadan çalışabilmesi için Bukkit nesnelerinin hafif taklitleri.
+ * <p>
+ * Sunucu, eklenti yöneticisi ve oyuncular JDK proxy'leri ile oluşturulur; yalnızca kütüphanenin
+ * kullandığı metotlar anlamlı değer döndürür. Eklenti yöneticisi "PlaceholderAPI" eklentisini
+ * yüklü gösterir, böylece {@code withPapiHook()} benchmarks içindeki PlaceholderAPI taklidini kullanır.
+ * INFO seviyesindeki loglar (örn. her reload mesajı) ölçümü etkilememesi için bastırılır.
+ */
+public final class StandIns {
+
+    private static final Logger SERVER_LOGGER = createLogger();
+    private static final Plugin PLACEHOLDER_API = proxy(Plugin.class, (proxy, method, args) -> {
+        if (method.getName().equals("getName")) {
+            return "PlaceholderAPI";
+        }
+        return defaultValue(method.getReturnType());
+    });
+    private static final PluginManager PLUGIN_MANAGER = proxy(PluginManager.class, (proxy, method, args) -> {
+        if (method.getName().equals("getPlugin")) {
+            return "PlaceholderAPI".equals(args[0]) ? PLACEHOLDER_API : null;
+        }
+        return defaultValue(method.getReturnType());
+    });
+    private static final Server SERVER = proxy(Server.class, (proxy, method, args) -> {
+        switch (method.getName()) {
+            case "getLogger":
+                return SERVER_LOGGER;
+            case "getPluginManager":
+                return PLUGIN_MANAGER;
+            case "getName":
+                return "LanguageManager-Benchmarks";
+            case "getVersion":
+            case "getBukkitVersion":
+                return "1.12.2-R0.1-SNAPSHOT";
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    });
+
+    private StandIns() {
+    }
+
+    /**
+     * Verilen klasörü veri klasörü olarak kullanan bir eklenti oluşturur.
+     * @param dataFolder Dil dosyalarının yazılacağı klasör.
+     * @return Sunucu olmadan çalışan eklenti.
+     */
+    @SuppressWarnings("deprecation")
+    public static JavaPlugin plugin(File dataFolder) {
+        installServer();
+        PluginDescriptionFile description = new PluginDescriptionFile("LanguageManagerBenchmarks", "1.0", BenchmarkPlugin.class.getName());
+        return new BenchmarkPlugin(new JavaPluginLoader(SERVER), description, dataFolder, new File(dataFolder, "plugin.jar"));
+    }
+
+    /**
+     * @param name Oyuncu adı.
+     * @param locale İstemci dil kodu, örn: "en_us".
+     * @return Çevrimiçi görünen bir oyuncu.
+     */
+    public static Player player(String name, String locale) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return proxy(Player.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                case "getDisplayName":
+                    return name;
+                case "getUniqueId":
+                    return uuid;
+                case "getLocale":
+                    return locale;
+                case "isOnline":
+                    return true;
+                case "getPlayer":
+                    return proxy;
+                case "hashCode":
+                    return uuid.hashCode();
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Player{" + name + "}";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private static synchronized void installServer() {
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(SERVER);
+        }
+    }
+
+    private static Logger createLogger() {
+        Logger logger = Logger.getLogger("LanguageManager-Benchmarks");
+        logger.setUseParentHandlers(false);
+        Handler handler = new ConsoleHandler();
+        handler.setLevel(Level.WARNING);
+        logger.addHandler(handler);
+        return logger;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(StandIns.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+
+    /**
+     * JavaPlugin'in test amaçlı kurucusunu kullanan, sunucu tarafından yüklenmeyen eklenti.
+     */
+    static final class BenchmarkPlugin extends JavaPlugin {
+        BenchmarkPlugin(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+            super(loader, description, dataFolder, file);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import com.bentahsin.languagemanager.annotations.Message;
+import com.bentahsin.languagemanager.annotations.Messages;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark'lar için sentetik dil dosyaları üretir.
+ */
+final class SyntheticPack {
+
+    private SyntheticPack() {
+    }
+
+    /**
+     * {@link BenchMessages} için, arayüzün tüm anahtarlarını ve verilen sayıda ek anahtarı içeren
+     * varsayılan dil dosyasını yazar. Liste döndüren metotların anahtarları çok satırlı yazılır.
+     * @param dataFolder Eklentinin veri klasörü.
+     * @param extraKeys Dosyaya eklenecek, arayüzde karşılığı olmayan anahtar sayısı.
+     */
+    static void write(File dataFolder, int extraKeys) throws IOException {
+        write(dataFolder, extraKeys, "");
+    }
+
+    /**
+     * write(File, int) ile aynıdır, ancak arayüz mesajlarının sonuna verilen sürüm işaretini ekler.
+     * Eşzamanlı yeniden yükleme testlerinde iki farklı dosya sürümünü ayırt etmek için kullanılır.
+     * @param dataFolder Eklentinin veri klasörü.
+     * @param extraKeys Dosyaya eklenecek, arayüzde karşılığı olmayan anahtar sayısı.
+     * @param version Mesajların sonuna eklenecek işaret.
+     */
+    static void write(File dataFolder, int extraKeys, String version) throws IOException {
+        YamlConfiguration yaml = new YamlConfiguration();
+        for (Method method : BenchMessages.class.getDeclaredMethods()) {
+            Message message = method.getAnnotation(Message.class);
+            if (method.getReturnType().equals(List.class)) {
+                yaml.set(message.key(), Arrays.asList(message.value() + version, "&7Second line for %player_name%" + version, "&8Third line" + version));
+            } else {
+                yaml.set(message.key(), message.value() + version);
+            }
+        }
+        for (int i = 0; i < extraKeys; i++) {
+            yaml.set("filler.section" + (i / 100) + ".key" + i, "&7Filler message &e#" + i + " &7for &f%player_name%&7.");
+        }
+
+        Files.createDirectories(dataFolder.toPath());
+        String filePrefix = BenchMessages.class.getAnnotation(Messages.class).filePrefix();
+        yaml.save(new File(dataFolder, filePrefix + "_en.yml"));
+    }
+
+    /**
+     * Geçici bir veri klasörünü içeriğiyle birlikte siler.
+     */
+    static void delete(File dataFolder) throws IOException {
+        if (!dataFolder.exists()) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dataFolder.toPath())) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
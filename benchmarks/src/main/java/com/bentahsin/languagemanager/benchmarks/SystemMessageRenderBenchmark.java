@@ -0,0 +1,97 @@
+package com.bentahsin.languagemanager.benchmarks;
+
+import com.bentahsin.languagemanager.BenchmarkSupport;
+import com.bentahsin.languagemanager.LanguageManager;
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gömülü sistem mesajlarının render maliyetini ölçer (SystemMessageProxyHandler).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SystemMessageRenderBenchmark {
+
+    private File dataFolder;
+    private LanguageManager manager;
+    private BenchSystemMessages messages;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("languagemanager-system").toFile();
+        manager = BenchmarkSupport.build(LanguageManager.create(StandIns.plugin(dataFolder)).withLocale("en"), BenchSystemMessages.class);
+        messages = manager.get(BenchSystemMessages.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        manager.disable();
+        SyntheticPack.delete(dataFolder);
+    }
+
+    @Benchmark
+    public String string0() {
+        return messages.string0();
+    }
+
+    @Benchmark
+    public String string1() {
+        return messages.string1("Steve");
+    }
+
+    @Benchmark
+    public String string5() {
+        return messages.string5("Steve", "Alex", 250, "Diamond Sword", "world_nether");
+    }
+
+    @Benchmark
+    public List<String> list0() {
+        return messages.list0();
+    }
+
+    @Benchmark
+    public List<String> list1() {
+        return messages.list1("Steve");
+    }
+
+    @Benchmark
+    public List<String> list5() {
+        return messages.list5("Steve", "Alex", 250, "Diamond Sword", "world_nether");
+    }
+
+    @Benchmark
+    public Component component0() {
+        return messages.component0();
+    }
+
+    @Benchmark
+    public Component component1() {
+        return messages.component1("Steve");
+    }
+
+    @Benchmark
+    public Component component5() {
+        return messages.component5("Steve", "Alex", 250, "Diamond Sword", "world_nether");
+    }
+}
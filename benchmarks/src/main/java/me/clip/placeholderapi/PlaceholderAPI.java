@@ -0,0 +1,40 @@
+package me.clip.placeholderapi;
+
+import org.bukkit.OfflinePlayer;
+
+/**
+ * Benchmark'lar için PlaceholderAPI'nin hafif bir taklidi.
+ * Gerçek eklenti sunucu olmadan çalışamadığından, yalnızca {@code %player_name%} placeholder'ını
+ * işleyen ve diğerlerini olduğu gibi bırakan bir sürüm kullanılır. Metni tek geçişte taradığı için
+ * maliyeti gerçek PlaceholderAPI'nin ayrıştırma maliyetine yakındır.
+ */
+public final class PlaceholderAPI {
+
+    private static final String PLAYER_NAME = "%player_name%";
+
+    private PlaceholderAPI() {
+    }
+
+    public static String setPlaceholders(OfflinePlayer player, String text) {
+        int start = text.indexOf('%');
+        if (start < 0) {
+            return text;
+        }
+        StringBuilder result = new StringBuilder(text.length() + 16);
+        int copied = 0;
+        while (start >= 0) {
+            int end = text.indexOf('%', start + 1);
+            if (end < 0) {
+                break;
+            }
+            if (text.regionMatches(start, PLAYER_NAME, 0, PLAYER_NAME.length())) {
+                result.append(text, copied, start).append(player.getName());
+                copied = end + 1;
+                start = text.indexOf('%', copied);
+            } else {
+                start = end;
+            }
+        }
+        return result.append(text, copied, text.length()).toString();
+    }
+}
@@ -0,0 +1,192 @@
+package com.bentahsin.languagemanager.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @Messages ve @SystemMessages ile işaretli arayüzler için derleme zamanında somut
+ * implementasyon sınıfları üreten annotation processor.
+ * <p>
+ * Üretilen {@code LanguageManager_<ArayüzAdı>} sınıfı, her metodun sıra numarasını kurucuda bir kez
+ * çözer ve çağrıları doğrudan {@code MessageDispatcher#dispatch} metoduna iletir. Böylece çağrılar
+ * {@code java.lang.reflect.Proxy} ve {@code InvocationHandler} üzerinden geçmez; JIT tarafından
+ * satır içine alınabilen (inline) tek biçimli çağrılar elde edilir. LanguageManagerBuilder, çalışma
+ * zamanında bu sınıfı bulursa proxy yerine onu kullanır.
+ * <p>
+ * Jenerik arayüzler ve jenerik ya da ilkel tipte değer döndüren metotlar içeren arayüzler için
+ * sınıf üretilmez; bu arayüzler proxy ile çalışmaya devam eder.
+ */
+@SupportedAnnotationTypes({
+        MessagesProcessor.MESSAGES_ANNOTATION,
+        MessagesProcessor.SYSTEM_MESSAGES_ANNOTATION
+})
+public final class MessagesProcessor extends AbstractProcessor {
+
+    static final String MESSAGES_ANNOTATION = "com.bentahsin.languagemanager.annotations.Messages";
+    static final String SYSTEM_MESSAGES_ANNOTATION = "com.bentahsin.languagemanager.annotations.SystemMessages";
+
+    private static final String CLASS_PREFIX = "LanguageManager_";
+    private static final String DISPATCHER = "com.bentahsin.languagemanager.proxy.MessageDispatcher";
+    private static final String GENERATED_MESSAGES = "com.bentahsin.languagemanager.proxy.GeneratedMessages";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.INTERFACE) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bir mesaj arayüzü için implementasyon sınıfını üretir ve derleyiciye yazar.
+     * @param type İşlenecek arayüz.
+     */
+    private void generate(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty() || type.getModifiers().contains(Modifier.PRIVATE)) {
+            note(type, "generic or private interface, proxy will be used");
+            return;
+        }
+
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            TypeKind returnKind = method.getReturnType().getKind();
+            if (!method.getTypeParameters().isEmpty() || returnKind.isPrimitive() || returnKind == TypeKind.VOID) {
+                note(type, "method " + method.getSimpleName() + " is not a message method, proxy will be used");
+                return;
+            }
+            methods.add(method);
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = CLASS_PREFIX + (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_');
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(render(type, packageName, simpleName, methods));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Üretilecek sınıfın kaynak kodunu oluşturur.
+     */
+    private String render(TypeElement type, String packageName, String simpleName, List<ExecutableElement> methods) {
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        String interfaceName = type.getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * {@link ").append(interfaceName).append("} için LanguageManager-processor tarafından üretilmiştir.\n")
+                .append(" * Elle düzenlemeyin.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(interfaceName).append(" {\n\n")
+                .append("    private final ").append(DISPATCHER).append(" dispatcher;\n");
+        for (int i = 0; i < methods.size(); i++) {
+            source.append("    private final int m").append(i).append(";\n");
+        }
+
+        source.append("\n    public ").append(simpleName).append("(").append(DISPATCHER).append(" dispatcher) {\n")
+                .append("        this.dispatcher = dispatcher;\n");
+        for (int i = 0; i < methods.size(); i++) {
+            ExecutableElement method = methods.get(i);
+            TypeElement declaring = (TypeElement) method.getEnclosingElement();
+            source.append("        this.m").append(i).append(" = ").append(GENERATED_MESSAGES).append(".resolve(dispatcher, ")
+                    .append(declaring.getQualifiedName()).append(".class, \"").append(method.getSimpleName()).append('"');
+            ExecutableType declaredMethodType = (ExecutableType) method.asType();
+            for (TypeMirror parameterType : declaredMethodType.getParameterTypes()) {
+                source.append(", ").append(processingEnv.getTypeUtils().erasure(parameterType)).append(".class");
+            }
+            source.append(");\n");
+        }
+        source.append("    }\n");
+
+        for (int i = 0; i < methods.size(); i++) {
+            ExecutableElement method = methods.get(i);
+            ExecutableType methodType = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(declaredType, method);
+            List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+            String returnType = methodType.getReturnType().toString();
+
+            source.append("\n    @Override\n    public ").append(returnType).append(' ').append(method.getSimpleName()).append('(');
+            for (int p = 0; p < parameterTypes.size(); p++) {
+                if (p > 0) {
+                    source.append(", ");
+                }
+                TypeMirror parameterType = parameterTypes.get(p);
+                if (method.isVarArgs() && p == parameterTypes.size() - 1) {
+                    source.append("final ").append(((ArrayType) parameterType).getComponentType()).append("...");
+                } else {
+                    source.append("final ").append(parameterType);
+                }
+                source.append(' ').append(method.getParameters().get(p).getSimpleName());
+            }
+            source.append(')');
+            List<? extends TypeMirror> thrownTypes = methodType.getThrownTypes();
+            for (int t = 0; t < thrownTypes.size(); t++) {
+                source.append(t == 0 ? " throws " : ", ").append(thrownTypes.get(t));
+            }
+
+            source.append(" {\n        return (").append(returnType).append(") this.dispatcher.dispatch(this.m").append(i).append(", ");
+            if (parameterTypes.isEmpty()) {
+                source.append("null");
+            } else {
+                source.append("new Object[]{");
+                for (int p = 0; p < parameterTypes.size(); p++) {
+                    if (p > 0) {
+                        source.append(", ");
+                    }
+                    source.append(method.getParameters().get(p).getSimpleName());
+                }
+                source.append('}');
+            }
+            source.append(");\n    }\n");
+        }
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "[LanguageManager] " + message, element);
+    }
+}
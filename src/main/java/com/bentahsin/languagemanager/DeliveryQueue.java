@@ -0,0 +1,381 @@
+package com.bentahsin.languagemanager;
+
+import com.bentahsin.languagemanager.locale.Locales;
+import com.bentahsin.languagemanager.proxy.MessageProxyHandler;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Oyunculara gönderilen mesajları kuyruğa alan, aynı mesajları birleştiren ve tek bir zamanlayıcı göreviyle
+ * toplu olarak gönderen teslimat hattı. Görev yalnızca kuyrukta kayıt varken her tick çalışır; ilk kayıtla
+ * başlatılır ve kuyruk boşaldığında durdurulur.
+ * <p>
+ * Bir gönderim kuyruğa alınırken çağrı, arayüzün kayıt tutan bir proxy'si üzerinde çalıştırılarak
+ * hangi metodun hangi argümanlarla çağrıldığı mesaj işlenmeden belirlenir. Aynı oyuncuya, aynı metot ve
+ * eşit ({@link Object#equals}) argümanlarla, bekleme süresi dolmadan gelen gönderimler tek bir kayıtta
+ * birleştirilir ve sayılır. Süresi dolan kayıtlar ana thread'de işlenir; aynı çağrıyı, aynı dil paketiyle ve aynı
+ * sayıyla bekleyen oyuncular için mesaj bir kez işlenip tek bir Adventure audience'ına gönderilir.
+ * Mesaj gönderim anında değil, kaydın süresi dolduğunda işlenir; PlaceholderAPI değerleri bu ana göre çözülür.
+ * <p>
+ * Çağrı tek bir mesaj metodu çağrısından ibaret olmalıdır (örn. {@code m -> m.blockBroken(player, block)});
+ * birleştirmede yalnızca çağrılan metoda ve argümanlarına bakılır. Hiç veya birden çok mesaj metodu çağıran
+ * çağrılar birleştirilmeden, sırası gelince aynen çalıştırılır. Çağrı bir kez kuyruğa alınırken kayıt
+ * proxy'si üzerinde, bir kez de teslimatta çalıştırıldığından yan etkisiz olmalıdır. Metodu ve argümanları
+ * doğrudan alan {@link #enqueue(Player, Class, Method, Object[])} kayıt gerektirmez.
+ * <p>
+ * {@link #enqueue} herhangi bir thread'den çağrılabilir; işleme ve gönderim her zaman ana thread'de yapılır.
+ */
+final class DeliveryQueue {
+
+    private static final ThreadLocal<Call> RECORDED = new ThreadLocal<>();
+
+    private final LanguageManager manager;
+    private final JavaPlugin plugin;
+    private final Logger logger;
+    private final boolean playerLocales;
+    private final int windowTicks;
+    private final String countSuffix;
+    private final Map<Class<?>, Object> recorders = new ConcurrentHashMap<>();
+    private final Map<Object, Pending> pending = new LinkedHashMap<>();
+    private BukkitTask task;
+    private boolean closed;
+    private long tick;
+
+    private DeliveryQueue(LanguageManager manager, LanguageManagerBuilder builder) {
+        this.manager = manager;
+        this.plugin = builder.getPlugin();
+        this.logger = plugin.getLogger();
+        this.playerLocales = builder.isPlayerLocalesEnabled();
+        this.windowTicks = builder.getDeliveryWindowTicks();
+        String suffix = builder.getDeliveryCountSuffix();
+        this.countSuffix = suffix == null ? null : ChatColor.translateAlternateColorCodes('&', suffix);
+    }
+
+    /**
+     * Teslimat hattını başlatır.
+     * @param manager Mesajları işleyip gönderecek LanguageManager.
+     * @param builder Ayarların okunacağı builder.
+     * @return Boş kuyruk; zamanlayıcı görevi ilk gönderim kuyruğa alındığında başlatılır.
+     */
+    static DeliveryQueue start(LanguageManager manager, LanguageManagerBuilder builder) {
+        return new DeliveryQueue(manager, builder);
+    }
+
+    /**
+     * Bir gönderimi kuyruğa alır. Aynı gönderim zaten bekliyorsa yalnızca sayısı artırılır.
+     * @param player Mesajı alacak oyuncu.
+     * @param messageInterface Mesaj arayüzünün sınıfı.
+     * @param invocation Gönderilecek mesajı üreten çağrı.
+     * @param <T> Mesaj arayüzünün tipi.
+     */
+    <T> void enqueue(Player player, Class<T> messageInterface, Function<? super T, ?> invocation) {
+        add(player, messageInterface, invocation, record(messageInterface, invocation));
+    }
+
+    /**
+     * Bir mesaj metodu çağrısını, çağrıyı kaydetmeye gerek kalmadan kuyruğa alır.
+     * @param player Mesajı alacak oyuncu.
+     * @param messageInterface Mesaj arayüzünün sınıfı.
+     * @param method Arayüzün mesaj metodu.
+     * @param args Metodun argümanları; kuyruk bu diziyi sahiplenir.
+     */
+    void enqueue(Player player, Class<?> messageInterface, Method method, Object[] args) {
+        add(player, messageInterface, null, new Call(method, args));
+    }
+
+    private void add(Player player, Class<?> messageInterface, Function<?, ?> invocation, Call call) {
+        Object key = call == null ? new Object() : new Key(player.getUniqueId(), call);
+        synchronized (pending) {
+            Pending entry = pending.get(key);
+            if (entry != null) {
+                entry.count++;
+                return;
+            }
+            pending.put(key, new Pending(player, messageInterface, invocation, call, tick + windowTicks));
+            if (task == null && !closed) {
+                task = Bukkit.getScheduler().runTaskTimer(plugin, this::flushDue, 1L, 1L);
+            }
+        }
+    }
+
+    /**
+     * Kuyruktaki tüm gönderimleri, bekleme sürelerine bakmadan hemen işler ve görevi durdurur.
+     * Eklenti kapanırken çağrılır; ana thread'den çağrılmalıdır.
+     */
+    void close() {
+        List<Pending> batch;
+        synchronized (pending) {
+            closed = true;
+            if (task != null) {
+                task.cancel();
+                task = null;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        deliver(batch);
+    }
+
+    /**
+     * Kuyrukta kayıt varken her tick ana thread'de çalışır; süresi dolan kayıtları kuyruktan alıp gönderir.
+     * Kuyruk boşalırsa görev durdurulur ve bir sonraki kayıtla yeniden başlatılır.
+     */
+    private void flushDue() {
+        List<Pending> batch = null;
+        synchronized (pending) {
+            tick++;
+            Iterator<Pending> iterator = pending.values().iterator();
+            while (iterator.hasNext()) {
+                Pending entry = iterator.next();
+                if (entry.dueTick > tick) {
+                    continue;
+                }
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                }
+                batch.add(entry);
+                iterator.remove();
+            }
+            if (pending.isEmpty() && task != null) {
+                task.cancel();
+                task = null;
+            }
+        }
+        if (batch != null) {
+            deliver(batch);
+        }
+    }
+
+    /**
+     * Kayıtları aynı çağrı, dil paketi ve sayıya göre gruplar; her grup için mesajı bir kez işleyip
+     * gruptaki tüm çevrimiçi oyunculara gönderir.
+     */
+    private void deliver(List<Pending> batch) {
+        Map<Object, List<Pending>> groups = new LinkedHashMap<>();
+        Map<Class<?>, MessageProxyHandler> handlers = new HashMap<>();
+        for (Pending entry : batch) {
+            if (!entry.player.isOnline()) {
+                continue;
+            }
+            Object bundle = null;
+            if (playerLocales) {
+                MessageProxyHandler handler = handlers.get(entry.messageInterface);
+                if (handler == null && !handlers.containsKey(entry.messageInterface)) {
+                    handler = manager.handlerOf(entry.messageInterface);
+                    handlers.put(entry.messageInterface, handler);
+                }
+                bundle = manager.localeGroup(handler, Locales.of(entry.player));
+            }
+            Object group = entry.call == null ? entry : Arrays.asList(entry.call, bundle, entry.count);
+            groups.computeIfAbsent(group, key -> new ArrayList<>(1)).add(entry);
+        }
+
+        for (List<Pending> group : groups.values()) {
+            Pending first = group.get(0);
+            List<Player> players = new ArrayList<>(group.size());
+            for (Pending entry : group) {
+                players.add(entry.player);
+            }
+            try {
+                manager.deliver(players, withCount(render(first), first.count));
+            } catch (RuntimeException e) {
+                logger.warning("[LanguageManager] Could not deliver queued message from "
+                        + first.messageInterface.getSimpleName() + ": " + e);
+            }
+        }
+    }
+
+    private Object render(Pending entry) {
+        String locale = playerLocales ? Locales.of(entry.player) : null;
+        if (locale == null) {
+            return apply(entry);
+        }
+        return Locales.withLocale(locale, () -> apply(entry));
+    }
+
+    /**
+     * Kaydı işler: metodu ve argümanları doğrudan verilmiş kayıtlar arayüzün işleyicisi üzerinden,
+     * diğerleri çağrının gerçek arayüz üzerinde çalıştırılmasıyla.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Object apply(Pending entry) {
+        if (entry.invocation == null) {
+            return manager.invoke(entry.messageInterface, entry.call.method, entry.call.args);
+        }
+        T messages = manager.get((Class<T>) entry.messageInterface);
+        return ((Function<? super T, ?>) entry.invocation).apply(messages);
+    }
+
+    /**
+     * Birden çok kez gönderilmiş bir mesajın sonuna, ayarlandıysa sayı ekini ekler.
+     * Listelerde ek son satıra eklenir.
+     */
+    private Object withCount(Object message, int count) {
+        if (count <= 1 || countSuffix == null || message == null) {
+            return message;
+        }
+        String suffix = countSuffix.replace("{count}", String.valueOf(count));
+        if (message instanceof Component) {
+            return ((Component) message).append(LegacyComponentSerializer.legacySection().deserialize(suffix));
+        }
+        if (message instanceof List) {
+            List<Object> lines = new ArrayList<>((List<?>) message);
+            if (lines.isEmpty()) {
+                return message;
+            }
+            lines.set(lines.size() - 1, lines.get(lines.size() - 1) + suffix);
+            return lines;
+        }
+        return message + suffix;
+    }
+
+    /**
+     * Çağrıyı arayüzün kayıt tutan proxy'si üzerinde çalıştırarak çağrılan metodu ve argümanları bulur.
+     * @return Tek bir mesaj metodu çağrısı kaydedildiyse çağrı; aksi halde null.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Call record(Class<T> messageInterface, Function<? super T, ?> invocation) {
+        T recorder = (T) recorders.computeIfAbsent(messageInterface, type -> Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[]{type}, Recorder.INSTANCE));
+        RECORDED.remove();
+        try {
+            invocation.apply(recorder);
+            return RECORDED.get();
+        } catch (RuntimeException e) {
+            return null;
+        } finally {
+            RECORDED.remove();
+        }
+    }
+
+    /**
+     * Mesaj metodu çağrılarını işlemeden, çağıran thread'e kaydeden proxy işleyicisi.
+     * İkinci bir mesaj metodu çağrılırsa kayıt geçersiz sayılır; birden çok metot çağıran çağrılar birleştirilmez.
+     * Çağrının dönen değeri kullanması halinde hata almaması için her dönüş tipine boş bir değer döndürülür.
+     */
+    private enum Recorder implements InvocationHandler {
+        INSTANCE;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "Recorder@" + Integer.toHexString(System.identityHashCode(proxy));
+                }
+            }
+            if (RECORDED.get() != null) {
+                throw new IllegalStateException("More than one message method was invoked.");
+            }
+            RECORDED.set(new Call(method, args == null ? new Object[0] : args.clone()));
+            if (method.getReturnType() == List.class) {
+                return Collections.emptyList();
+            }
+            if (method.getReturnType() == String.class) {
+                return "";
+            }
+            if (method.getReturnType() == Component.class) {
+                return Component.empty();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Bir mesaj metodu ve argümanları; argümanlar içerikleriyle karşılaştırılır.
+     */
+    private static final class Call {
+        private final Method method;
+        private final Object[] args;
+        private final int hash;
+
+        Call(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+            this.hash = 31 * method.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Call)) {
+                return false;
+            }
+            Call call = (Call) other;
+            return hash == call.hash && method.equals(call.method) && Arrays.deepEquals(args, call.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Key {
+        private final UUID player;
+        private final Call call;
+
+        Key(UUID player, Call call) {
+            this.player = player;
+            this.call = call;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return player.equals(key.player) && call.equals(key.call);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * player.hashCode() + call.hashCode();
+        }
+    }
+
+    private static final class Pending {
+        final Player player;
+        final Class<?> messageInterface;
+        final Function<?, ?> invocation;
+        final Call call;
+        final long dueTick;
+        int count = 1;
+
+        Pending(Player player, Class<?> messageInterface, Function<?, ?> invocation, Call call, long dueTick) {
+            this.player = player;
+            this.messageInterface = messageInterface;
+            this.invocation = invocation;
+            this.call = call;
+            this.dueTick = dueTick;
+        }
+    }
+}
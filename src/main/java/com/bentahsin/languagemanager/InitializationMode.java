@@ -0,0 +1,25 @@
+package com.bentahsin.languagemanager;
+
+/**
+ * {@link LanguageManagerBuilder#build()} sırasında mesaj arayüzlerinin nasıl hazırlanacağını belirler.
+ */
+public enum InitializationMode {
+    /**
+     * Tüm arayüzler build() içinde, sırayla hazırlanır. Varsayılan davranıştır.
+     */
+    EAGER,
+
+    /**
+     * Tüm arayüzler build() içinde, yalnızca hazırlık süresince açılan kendi thread havuzunda, işlemci
+     * çekirdekleri arasında paralel olarak hazırlanır.
+     * Aynı dosya önekini paylaşan arayüzler, dosyaya eşzamanlı yazılmaması için aynı görevde sırayla işlenir.
+     */
+    PARALLEL,
+
+    /**
+     * Arayüzler build() içinde hazırlanmaz; her arayüz ilk {@link LanguageManager#get(Class)}
+     * çağrısında, çağıran thread üzerinde hazırlanır. Aynı arayüzü bu sırada isteyen diğer thread'ler
+     * hazırlığın bitmesini bekler; farklı arayüzler birbirini beklemez.
+     */
+    LAZY
+}
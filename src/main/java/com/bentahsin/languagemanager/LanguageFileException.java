@@ -0,0 +1,23 @@
+package com.bentahsin.languagemanager;
+
+/**
+ * Bir dil dosyası okunurken veya ayrıştırılırken oluşan hatayı, hatanın ait olduğu dosya adıyla birlikte taşır.
+ */
+public class LanguageFileException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String fileName;
+
+    public LanguageFileException(String fileName, Throwable cause) {
+        super("An error occurred with language file: " + fileName + " (" + cause.getMessage() + ")", cause);
+        this.fileName = fileName;
+    }
+
+    /**
+     * @return Hatanın oluştuğu dil dosyasının adı (örn. "messages_tr.yml").
+     */
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -0,0 +1,252 @@
+package com.bentahsin.languagemanager;
+
+import com.bentahsin.languagemanager.catalog.CatalogCache;
+import com.bentahsin.languagemanager.catalog.CompactCatalog;
+import com.bentahsin.languagemanager.catalog.MessageCatalog;
+import com.bentahsin.languagemanager.util.StringPool;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Dil dosyalarının okunmasını ve eksik varsayılanların dosyalara yazılmasını yönetir.
+ * <p>
+ * Her dosya, içeriği (boyutu ve CRC32 özeti) değişmediği sürece yalnızca bir kez ayrıştırılır;
+ * aynı dosyayı kullanan tüm arayüzler aynı katalogu paylaşır. Dosya her okumada baştan okunup özeti
+ * alınır; bu, ayrıştırmaya göre çok ucuzdur ve açık yeniden yüklemelerin, aynı saniye içinde yapılmış
+ * düzenlemeleri de görmesini sağlar. Eksik anahtarlar dosyaya hemen yazılmaz,
+ * dosya başına biriktirilir ve bir sonraki tick'te ana thread dışında tek bir yazma ile kaydedilir.
+ * <p>
+ * Sıkıştırılmış depolama açıkken varsayılan dil dışındaki dosyalar {@link CompactCatalog} olarak ayrıca
+ * önbelleğe alınır; bu dosyaların {@link MessageCatalog} halleri bellekte tutulmaz. Bellekten atılan oyuncu
+ * dillerinin dosyaları da {@link #retainOnly(Set)} ile depodan çıkarılır.
+ */
+final class LanguageFileStore {
+
+    private final JavaPlugin plugin;
+    private final StringPool stringPool;
+    private final Map<File, Parsed<MessageCatalog>> parsed = new ConcurrentHashMap<>();
+    private final Map<File, Parsed<CompactCatalog>> compact = new ConcurrentHashMap<>();
+    private final Map<File, Map<String, String>> pendingDefaults = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    LanguageFileStore(JavaPlugin plugin, StringPool stringPool) {
+        this.plugin = plugin;
+        this.stringPool = stringPool;
+    }
+
+    /**
+     * Bir dil dosyasını düzleştirilmiş katalog olarak okur. Dosyanın içeriği son okumadan beri değişmediyse
+     * önceki katalog döndürülür; değiştiyse önce ikili önbellek, o da geçersizse YAML ayrıştırıcısı kullanılır.
+     * Yeni okunan katalogun metinleri ortak metin havuzundan alınır.
+     * @param file Okunacak dil dosyası.
+     * @param catalogCache İkili katalog önbelleği; kapalıysa null.
+     * @return Dosyanın katalogu; dosya yoksa null.
+     * @throws LanguageFileException Dosya okunamaz veya ayrıştırılamazsa.
+     */
+    MessageCatalog read(File file, CatalogCache catalogCache) throws LanguageFileException {
+        byte[] bytes = bytesOf(file);
+        if (bytes == null) {
+            parsed.remove(file);
+            return null;
+        }
+        long checksum = checksum(bytes);
+        Parsed<MessageCatalog> previous = parsed.get(file);
+        if (previous != null && previous.matches(bytes.length, checksum)) {
+            return previous.catalog;
+        }
+
+        MessageCatalog catalog = parse(file, bytes, checksum, catalogCache).interned(stringPool);
+        parsed.put(file, new Parsed<>(bytes.length, checksum, catalog));
+        return catalog;
+    }
+
+    /**
+     * Bir dil dosyasını tek bir bitişik tampona sıkıştırılmış katalog olarak okur.
+     * Dosyanın içeriği son okumadan beri değişmediyse önceki katalog döndürülür. Ayrıştırma sırasında oluşan
+     * {@link MessageCatalog} yalnızca dönüştürme için kullanılır ve saklanmaz.
+     * @param file Okunacak dil dosyası.
+     * @param catalogCache İkili katalog önbelleği; kapalıysa null.
+     * @param offHeap true ise metinler JVM yığını dışında tutulur.
+     * @return Dosyanın sıkıştırılmış katalogu; dosya yoksa null.
+     * @throws LanguageFileException Dosya okunamaz veya ayrıştırılamazsa.
+     */
+    CompactCatalog readCompact(File file, CatalogCache catalogCache, boolean offHeap) throws LanguageFileException {
+        byte[] bytes = bytesOf(file);
+        if (bytes == null) {
+            compact.remove(file);
+            return null;
+        }
+        long checksum = checksum(bytes);
+        Parsed<CompactCatalog> previous = compact.get(file);
+        if (previous != null && previous.matches(bytes.length, checksum)) {
+            return previous.catalog;
+        }
+
+        Parsed<MessageCatalog> shared = parsed.get(file);
+        MessageCatalog source = shared != null && shared.matches(bytes.length, checksum)
+                ? shared.catalog : parse(file, bytes, checksum, catalogCache);
+        CompactCatalog catalog = CompactCatalog.of(source, offHeap);
+        compact.put(file, new Parsed<>(bytes.length, checksum, catalog));
+        return catalog;
+    }
+
+    /**
+     * @return Dosyanın tüm içeriği; dosya yoksa null.
+     */
+    private static byte[] bytesOf(File file) throws LanguageFileException {
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new LanguageFileException(file.getName(), e);
+        }
+    }
+
+    /**
+     * Dosya içeriğinin özeti. Son değiştirilme zamanının aksine, aynı saniye içinde yapılan
+     * ve boyutu değiştirmeyen düzenlemeleri de ayırt eder.
+     */
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    /**
+     * Okunmuş içeriği önce ikili önbellekten, o da geçersizse YAML ayrıştırıcısı ile kataloga çevirir.
+     * Önbellek, ayrıştırılan içeriğin kendisinin özetiyle damgalanır.
+     */
+    private MessageCatalog parse(File file, byte[] bytes, long checksum, CatalogCache catalogCache) throws LanguageFileException {
+        MessageCatalog catalog = catalogCache != null ? catalogCache.read(file, bytes.length, checksum) : null;
+        if (catalog == null) {
+            YamlConfiguration yamlConfig = new YamlConfiguration();
+            try {
+                yamlConfig.loadFromString(new String(bytes, StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                throw new LanguageFileException(file.getName(), e);
+            }
+            catalog = MessageCatalog.of(yamlConfig);
+            if (catalogCache != null) {
+                catalogCache.write(file, bytes.length, checksum, catalog);
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Verilen küme dışındaki dosyaların kataloglarını bellekten atar. Atılan bir dosya
+     * tekrar istendiğinde yeniden okunur.
+     * @param files Bellekte tutulmaya devam edecek dosyalar.
+     */
+    void retainOnly(Set<File> files) {
+        parsed.keySet().retainAll(files);
+        compact.keySet().retainAll(files);
+    }
+
+    /**
+     * Bir dosyada eksik olan varsayılan mesajları yazılmak üzere kuyruğa ekler.
+     * Aynı dosya için biriken tüm varsayılanlar tek bir yazmada kaydedilir. Eklenti devre dışıyken
+     * görev zamanlanamadığı için kuyruk çağıran thread'de hemen yazılır.
+     * @param file Varsayılanların yazılacağı dil dosyası.
+     * @param defaults Eksik anahtarlar ve varsayılan değerleri.
+     */
+    void queueDefaults(File file, Map<String, String> defaults) {
+        synchronized (pendingDefaults) {
+            pendingDefaults.computeIfAbsent(file, key -> new LinkedHashMap<>()).putAll(defaults);
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        try {
+            Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, this::flush, 1L);
+        } catch (IllegalPluginAccessException e) {
+            flush();
+        }
+    }
+
+    /**
+     * Kuyruktaki tüm varsayılanları, çağıran thread'de hemen dosyalara yazar.
+     * Eklenti kapanırken bekleyen yazmaların kaybolmaması için de kullanılır.
+     */
+    void flush() {
+        Map<File, Map<String, String>> batch;
+        synchronized (pendingDefaults) {
+            batch = new LinkedHashMap<>(pendingDefaults);
+            pendingDefaults.clear();
+            flushScheduled = false;
+        }
+        for (Map.Entry<File, Map<String, String>> entry : batch.entrySet()) {
+            writeDefaults(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private synchronized void writeDefaults(File file, Map<String, String> defaults) {
+        YamlConfiguration yamlConfig = new YamlConfiguration();
+        boolean exists = file.exists();
+        if (exists) {
+            try {
+                yamlConfig.load(file);
+            } catch (Exception e) {
+                plugin.getLogger().severe("[LanguageManager] Could not add missing messages to " + file.getName()
+                        + ", the file could not be read: " + e.getMessage());
+                return;
+            }
+        }
+
+        boolean modified = false;
+        for (Map.Entry<String, String> entry : defaults.entrySet()) {
+            if (!yamlConfig.contains(entry.getKey())) {
+                yamlConfig.set(entry.getKey(), entry.getValue());
+                modified = true;
+            }
+        }
+        if (!modified) {
+            return;
+        }
+
+        if (exists) {
+            plugin.getLogger().info("[LanguageManager] Updating language file with new messages: " + file.getName());
+        } else {
+            plugin.getLogger().info("[LanguageManager] Creating default language file: " + file.getName());
+        }
+        try {
+            yamlConfig.save(file);
+        } catch (Exception e) {
+            plugin.getLogger().severe("[LanguageManager] An error occurred with language file: " + file.getName());
+            plugin.getLogger().severe(e.getMessage());
+        }
+        parsed.remove(file);
+        compact.remove(file);
+    }
+
+    private static final class Parsed<T> {
+        final long length;
+        final long checksum;
+        final T catalog;
+
+        Parsed(long length, long checksum, T catalog) {
+            this.length = length;
+            this.checksum = checksum;
+            this.catalog = catalog;
+        }
+
+        boolean matches(long length, long checksum) {
+            return this.length == length && this.checksum == checksum;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.bentahsin.languagemanager;
+
+import com.bentahsin.languagemanager.annotations.Messages;
+import com.bentahsin.languagemanager.locale.Locales;
+import com.bentahsin.languagemanager.proxy.MessageProxyHandler;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Eklenti veri klasöründeki dil dosyalarını {@link WatchService} ile izleyen ve yalnızca
+ * değişen dosyaları yeniden yükleyen arka plan görevi.
+ * <p>
+ * Bir dosyaya art arda gelen değişiklikler (örn. editörlerin kaydetme sırasında yaptığı birden çok
+ * yazma) bekleme süresi boyunca biriktirilir; klasör bu süre kadar sessiz kaldıktan sonra değişen
+ * dosyalar tek seferde işlenir. Yalnızca etkilenen arayüzlerin ve dillerin katalogları değiştirilir.
+ */
+final class LanguageFileWatcher implements Runnable {
+
+    private final LanguageManagerBuilder builder;
+    private final List<MessageProxyHandler> fileHandlers;
+    private final Logger logger;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private LanguageFileWatcher(LanguageManagerBuilder builder, List<MessageProxyHandler> fileHandlers, WatchService watchService) {
+        this.builder = builder;
+        this.fileHandlers = fileHandlers;
+        this.logger = builder.getPlugin().getLogger();
+        this.debounceMillis = builder.getFileWatcherDebounceMillis();
+        this.watchService = watchService;
+        this.thread = new Thread(this, "LanguageManager-" + builder.getPlugin().getName() + "-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Veri klasörünü izlemeye başlar.
+     * @param builder Ana LanguageManagerBuilder.
+     * @param fileHandlers İzlenecek dosya tabanlı mesaj işleyicileri.
+     * @return Başlatılmış izleyici; klasör izlenemiyorsa null.
+     */
+    static LanguageFileWatcher start(LanguageManagerBuilder builder, List<MessageProxyHandler> fileHandlers) {
+        Path folder = builder.getPlugin().getDataFolder().toPath();
+        try {
+            Files.createDirectories(folder);
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            folder.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            LanguageFileWatcher watcher = new LanguageFileWatcher(builder, fileHandlers, watchService);
+            watcher.thread.start();
+            return watcher;
+        } catch (IOException e) {
+            builder.getPlugin().getLogger().warning("[LanguageManager] Could not watch language files in " + folder + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void run() {
+        Set<String> pending = new HashSet<>();
+        boolean overflow = false;
+        while (running) {
+            WatchKey key;
+            try {
+                key = pending.isEmpty() && !overflow
+                        ? watchService.take()
+                        : watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            if (key == null) {
+                reloadChanged(overflow ? null : pending);
+                pending = new HashSet<>();
+                overflow = false;
+                continue;
+            }
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    overflow = true;
+                    continue;
+                }
+                String fileName = event.context().toString();
+                if (fileName.endsWith(".yml")) {
+                    pending.add(fileName);
+                }
+            }
+            key.reset();
+        }
+    }
+
+    /**
+     * Değişen dosyalara bağlı arayüzlerin kataloglarını yeniden yükler ve yayınlar.
+     * @param changedFiles Değişen dosya adları; null ise tüm dosyalar yeniden yüklenir.
+     */
+    private void reloadChanged(Set<String> changedFiles) {
+        for (MessageProxyHandler handler : fileHandlers) {
+            Set<String> locales = changedFiles == null ? null : localesOf(handler, changedFiles);
+            if (locales != null && locales.isEmpty()) {
+                continue;
+            }
+            try {
+                handler.publish(handler.loadSnapshot(builder, locales));
+                logger.info("[LanguageManager] Reloaded changed language files for prefix: " + handler.getFilePrefix());
+            } catch (LanguageFileException e) {
+                logger.severe("[LanguageManager] An error occurred with language file: " + e.getFileName());
+                logger.severe(e.getCause().getMessage());
+            } catch (RuntimeException e) {
+                logger.severe("[LanguageManager] Could not reload language files for prefix " + handler.getFilePrefix() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Değişen dosya adlarından, işleyicinin kullandığı dil dosyalarının dil kodlarını çıkarır.
+     * Örn: "messages" öneki için "messages_pt_BR.yml" dosyasından "pt_br".
+     * <p>
+     * Dosya adı, öneke ve işleyicinin bildiği bir dil koduna (varsayılan dilin ve bellekteki dillerin
+     * zincirlerindeki kodlar) birebir uymalıdır; böylece "messages" öneki "messages_admin_en.yml" dosyasını
+     * sahiplenmez. Bir dosya birden çok kayıtlı öneke uyuyorsa en uzun önekin sayılır.
+     */
+    private Set<String> localesOf(MessageProxyHandler handler, Set<String> changedFiles) {
+        String filePrefix = handler.getFilePrefix();
+        Messages config = handler.getInterfaceClass().getAnnotation(Messages.class);
+        Set<String> known = new HashSet<>(builder.getFallbackChain(builder.getLocale(), config));
+        for (String loaded : handler.getLoadedLocales()) {
+            known.addAll(builder.getFallbackChain(loaded, config));
+        }
+
+        Set<String> locales = new HashSet<>();
+        String start = filePrefix + "_";
+        for (String fileName : changedFiles) {
+            if (!fileName.startsWith(start) || !fileName.endsWith(".yml") || ownedByLongerPrefix(filePrefix, fileName)) {
+                continue;
+            }
+            String locale = Locales.normalize(fileName.substring(start.length(), fileName.length() - ".yml".length()));
+            if (known.contains(locale)) {
+                locales.add(locale);
+            }
+        }
+        return locales;
+    }
+
+    private boolean ownedByLongerPrefix(String filePrefix, String fileName) {
+        for (MessageProxyHandler handler : fileHandlers) {
+            String other = handler.getFilePrefix();
+            if (other.length() > filePrefix.length() && fileName.startsWith(other + "_")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * İzlemeyi durdurur ve arka plan thread'ini sonlandırır.
+     */
+    void close() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+        }
+        thread.interrupt();
+    }
+}
@@ -1,27 +1,75 @@
 package com.bentahsin.languagemanager;
 
+import com.bentahsin.languagemanager.locale.Locales;
+import com.bentahsin.languagemanager.metrics.MetricsSnapshot;
 import com.bentahsin.languagemanager.proxy.MessageProxyHandler;
+import com.bentahsin.languagemanager.proxy.PreparedMessage;
+import com.bentahsin.languagemanager.util.StringPool;
+import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 /**
  * Kütüphanenin ana yönetim sınıfı.
  * Yapılandırılmış ve oluşturulmuş mesaj arayüzlerine erişim sağlar.
+ * <p>
+ * <b>Thread güvenliği:</b> {@link #get(Class)} ile alınan mesaj nesneleri herhangi bir thread'den
+ * eşzamanlı olarak kullanılabilir; yeniden yüklemeler değişmez paketlerin güvenli yayını ile yapılır
+ * (bkz. {@link MessageProxyHandler}). Ağır mesajlar {@link #renderAsync(Class, Function, Executor)} ile
+ * ana thread dışında işlenip sonuç {@link #getMainThreadExecutor()} ile ana thread'e aktarılabilir.
+ * Oyunculara gönderim ve {@link #broadcast(Class, Function)} gibi Bukkit API'si kullanan işlemler
+ * ana thread'de yapılmalıdır.
  */
 @SuppressWarnings("unused")
 public final class LanguageManager {
 
+    private static final Object SERVER_LOCALE_GROUP = new Object();
+
     private final JavaPlugin plugin;
     private final LanguageManagerBuilder builder;
     private final Map<Class<?>, Object> messageProxies;
+    private final List<MessageProxyHandler> fileHandlers;
+    private final Map<Class<?>, Duration> initializationTimings;
     private final BukkitAudiences adventure;
+    private final LanguageFileWatcher fileWatcher;
+    private final DeliveryQueue deliveryQueue;
+    private final Map<Class<?>, CompletableFuture<Object>> lazyInitializations = new ConcurrentHashMap<>();
 
-    LanguageManager(JavaPlugin plugin, LanguageManagerBuilder builder, Map<Class<?>, Object> messageProxies, BukkitAudiences adventure) {
+    LanguageManager(JavaPlugin plugin, LanguageManagerBuilder builder, Map<Class<?>, Object> messageProxies, List<MessageProxyHandler> fileHandlers,
+                    Map<Class<?>, Duration> initializationTimings, BukkitAudiences adventure) {
         this.plugin = plugin;
         this.builder = builder;
         this.messageProxies = messageProxies;
+        this.fileHandlers = fileHandlers;
+        this.initializationTimings = initializationTimings;
         this.adventure = adventure;
+        this.fileWatcher = builder.isFileWatcherEnabled()
+                ? LanguageFileWatcher.start(builder, fileHandlers)
+                : null;
+        this.deliveryQueue = builder.isDeliveryQueueEnabled()
+                ? DeliveryQueue.start(this, builder)
+                : null;
     }
 
     /**
@@ -33,35 +81,430 @@ public final class LanguageManager {
     @SuppressWarnings("unchecked")
     public <T> T get(Class<T> messageInterface) {
         Object proxy = messageProxies.get(messageInterface);
+        if (proxy == null && builder.getInitializationMode() == InitializationMode.LAZY && builder.isMessageInterface(messageInterface)) {
+            proxy = initializeLazily(messageInterface);
+        }
         if (proxy == null) {
             throw new IllegalArgumentException("Message interface " + messageInterface.getName() + " is not registered.");
         }
         return (T) proxy;
     }
 
+    /**
+     * LAZY modunda bir arayüzü hazırlar. Hazırlığı ilk isteyen thread yapar; aynı arayüzü bu sırada isteyen
+     * thread'ler yalnızca onun sonucunu bekler. Dosya okuma ve derleme hiçbir ortak haritanın kilidi altında
+     * yapılmaz, böylece diğer arayüzlere erişim engellenmez. Hazırlık başarısız olursa sonraki çağrı yeniden dener.
+     */
+    private Object initializeLazily(Class<?> messageInterface) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = lazyInitializations.putIfAbsent(messageInterface, created);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Object proxy = messageProxies.get(messageInterface);
+            if (proxy == null) {
+                proxy = builder.initialize(messageInterface, fileHandlers, initializationTimings);
+                messageProxies.put(messageInterface, proxy);
+            }
+            created.complete(proxy);
+            return proxy;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            lazyInitializations.remove(messageInterface, created);
+        }
+    }
+
+    /**
+     * Her mesaj arayüzünün hazırlanma (dosya okuma, derleme ve proxy oluşturma) süresini döndürür.
+     * LAZY modunda yalnızca şimdiye kadar kullanılmış arayüzler yer alır.
+     * @return Arayüze göre hazırlanma süreleri.
+     */
+    public Map<Class<?>, Duration> getInitializationTimings() {
+        return Collections.unmodifiableMap(initializationTimings);
+    }
+
+    /**
+     * Bir @Message metoduna bağlı, yalnızca argümanlar veya katalog değiştiğinde yeniden işlenen
+     * bir mesaj tutucu oluşturur. Her tick yenilenen göstergeler için kullanılır, örn:
+     * <pre>{@code
+     * PreparedMessage<String> coins = manager.prepare(BoardMessages.class, "coins", int.class);
+     * String line = coins.render(balance);
+     * }</pre>
+     * @param messageInterface Dosya tabanlı mesaj arayüzünün sınıfı.
+     * @param methodName Bağlanacak metodun adı.
+     * @param parameterTypes Metodun parametre tipleri (aşırı yüklenmiş metotları ayırt etmek için).
+     * @param <R> Metodun dönüş tipi.
+     * @return Yeni PreparedMessage.
+     * @throws IllegalArgumentException Arayüz kayıtlı değilse veya metot bir @Message metodu değilse.
+     */
+    public <R> PreparedMessage<R> prepare(Class<?> messageInterface, String methodName, Class<?>... parameterTypes) {
+        get(messageInterface);
+        Method method;
+        try {
+            method = messageInterface.getMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Method " + methodName + " not found in " + messageInterface.getName() + ".", e);
+        }
+        MessageProxyHandler handler = handlerOf(messageInterface);
+        if (handler == null) {
+            throw new IllegalArgumentException("Message interface " + messageInterface.getName() + " is not a @Messages interface.");
+        }
+        return handler.prepare(method);
+    }
+
+    /**
+     * Bir dil için, mesajın gerçekte işleneceği dil paketini temsil eden anahtarı döndürür.
+     * Aynı pakete düşen diller için aynı anahtar döner. Dosya tabanlı olmayan arayüzler her zaman sunucu dilinde
+     * işlendiği için tüm diller aynı sabit anahtarı alır.
+     * @param handler Arayüzün {@link #handlerOf} ile bulunmuş işleyicisi; dosya tabanlı değilse null.
+     */
+    Object localeGroup(MessageProxyHandler handler, String locale) {
+        return handler != null ? handler.bundleOf(locale) : SERVER_LOCALE_GROUP;
+    }
+
+    /**
+     * @return Arayüzün dosya tabanlı işleyicisi; arayüz dosya tabanlı değilse veya henüz hazırlanmadıysa null.
+     */
+    MessageProxyHandler handlerOf(Class<?> messageInterface) {
+        for (MessageProxyHandler handler : fileHandlers) {
+            if (handler.getInterfaceClass() == messageInterface) {
+                return handler;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Bir mesajı verilen executor üzerinde işler. MiniMessage veya PlaceholderAPI kullanan ağır
+     * mesajların ana thread dışında hazırlanması için kullanılır, örn:
+     * <pre>{@code
+     * manager.renderAsync(ShopMessages.class, m -> m.receipt(player, items), pool)
+     *        .thenAcceptAsync(player::sendMessage, manager.getMainThreadExecutor());
+     * }</pre>
+     * @param messageInterface Mesaj arayüzünün sınıfı.
+     * @param invocation İşlenecek mesajı üreten çağrı.
+     * @param executor Mesajın işleneceği executor.
+     * @param <T> Mesaj arayüzünün tipi.
+     * @param <R> Mesajın tipi.
+     * @return İşlenmiş mesajla, executor'ın thread'inde tamamlanan future.
+     */
+    public <T, R> CompletableFuture<R> renderAsync(Class<T> messageInterface, Function<? super T, ? extends R> invocation, Executor executor) {
+        T messages = get(messageInterface);
+        return CompletableFuture.supplyAsync(() -> invocation.apply(messages), executor);
+    }
+
+    /**
+     * @return Görevleri Bukkit zamanlayıcısı ile ana sunucu thread'inde çalıştıran executor.
+     * Ana thread'den çağrılan görevler bir sonraki tick'te çalışır.
+     */
+    public Executor getMainThreadExecutor() {
+        return task -> Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    /**
+     * Dil dosyaları ve arayüzler arasında paylaşılan metin havuzunun istatistiklerini döndürür.
+     * @return Tekilleştirilen metin ve şablon sayıları ile tahmini bellek kazancı.
+     */
+    public StringPool.Stats getStringPoolStats() {
+        return builder.getStringPool().stats();
+    }
+
+    /**
+     * Mesaj ölçümlerinin anlık bir kopyasını döndürür.
+     * @return Arayüz ve anahtara göre ölçümler; metrikler withMetrics() ile açılmadıysa boş.
+     */
+    public MetricsSnapshot getMetrics() {
+        if (builder.getMetrics() == null) {
+            return MetricsSnapshot.empty();
+        }
+        return builder.getMetrics().snapshot(builder.getPapiCache());
+    }
+
+    /**
+     * Bir mesajı tüm çevrimiçi oyunculara gönderir. Ana thread'den çağrılmalıdır.
+     * @param messageInterface Mesaj arayüzünün sınıfı.
+     * @param invocation Gönderilecek mesajı üreten çağrı, örn: {@code m -> m.eventStarted(eventName)}.
+     * @param <T> Mesaj arayüzünün tipi.
+     * @see #broadcast(Collection, Class, Function)
+     */
+    public <T> void broadcast(Class<T> messageInterface, Function<? super T, ?> invocation) {
+        broadcast(Bukkit.getOnlinePlayers(), messageInterface, invocation);
+    }
+
+    /**
+     * Bir mesajı verilen oyunculara, her dil için yalnızca bir kez işleyerek gönderir.
+     * <p>
+     * Alıcılar, istemci dillerinin gerçekte kullanacağı dil paketine göre gruplanır ve çağrı her grup için
+     * bir kez çalıştırılır; dosyası olmadığı için varsayılan dile düşen diller varsayılan dil ile aynı gruba
+     * girer. Oyuncuya özel dil desteği kapalıysa mesaj yalnızca bir kez işlenir. Sonuç, Adventure
+     * üzerinden gruptaki tüm oyunculara iletilir. Metin ve liste sonuçları eski (§) renk kodlarıyla
+     * Component'e çevrilir; listelerde her satır ayrı bir mesaj olarak gönderilir.
+     * <p>
+     * Çağrı tüm alıcılar için ortak olmalıdır: bir oyuncu parametresi içeriyorsa, o oyuncu yalnızca
+     * PlaceholderAPI için kullanılır ve sonuç tüm gruba aynen gönderilir.
+     * @param recipients Mesajı alacak oyuncular.
+     * @param messageInterface Mesaj arayüzünün sınıfı.
+     * @param invocation Gönderilecek mesajı üreten çağrı, örn: {@code m -> m.eventStarted(eventName)}.
+     * @param <T> Mesaj arayüzünün tipi.
+     */
+    public <T> void broadcast(Collection<? extends Player> recipients, Class<T> messageInterface, Function<? super T, ?> invocation) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        T messages = get(messageInterface);
+        MessageProxyHandler handler = builder.isPlayerLocalesEnabled() ? handlerOf(messageInterface) : null;
+        if (handler == null) {
+            deliver(recipients, invocation.apply(messages));
+            return;
+        }
+
+        String defaultLocale = Locales.normalize(builder.getLocale());
+        Map<Object, String> localeOfGroup = new HashMap<>();
+        Map<Object, List<Player>> recipientsByBundle = new HashMap<>();
+        for (Player player : recipients) {
+            String locale = Locales.of(player);
+            if (locale == null) {
+                locale = defaultLocale;
+            }
+            Object group = localeGroup(handler, locale);
+            localeOfGroup.putIfAbsent(group, locale);
+            recipientsByBundle.computeIfAbsent(group, key -> new ArrayList<>()).add(player);
+        }
+        for (Map.Entry<Object, List<Player>> group : recipientsByBundle.entrySet()) {
+            String locale = localeOfGroup.get(group.getKey());
+            deliver(group.getValue(), Locales.withLocale(locale, () -> invocation.apply(messages)));
+        }
+    }
+
+    /**
+     * Bir mesajı tek bir oyuncuya gönderir.
+     * <p>
+     * Teslimat kuyruğu (withDeliveryQueue) açıksa mesaj hemen işlenmez; kuyruğa alınır ve bekleme süresi
+     * dolduğunda ana thread'de gönderilir. Bu süre içinde aynı oyuncuya aynı mesajın aynı argümanlarla
+     * tekrar gönderilmesi, yeni bir mesaj yerine yalnızca sayının artmasına neden olur. Kuyruk açıkken bu metot
+     * herhangi bir thread'den çağrılabilir. Kuyruk kapalıysa mesaj hemen işlenip gönderilir; bu durumda
+     * ana thread'den çağrılmalıdır. Oyuncuya özel dil desteği açıksa mesaj oyuncunun dilinde işlenir.
+     * <p>
+     * Kuyruk açıkken çağrı iki kez çalıştırılır: kuyruğa alınırken hangi metodun çağrıldığını bulmak için
+     * bir kayıt proxy'si üzerinde, teslimatta ise gerçek arayüz üzerinde. Bu yüzden çağrı yan etkisiz
+     * olmalı ve yalnızca mesaj metodunu çağırmalıdır; aksi halde {@link #send(Player, Class, Method, Object...)}
+     * kullanılmalıdır.
+     * @param player Mesajı alacak oyuncu.
+     * @param messageInterface Mesaj arayüzünün sınıfı.
+     * @param invocation Gönderilecek mesajı üreten tek bir mesaj metodu çağrısı, örn: {@code m -> m.blockBroken(player, block)}.
+     * @param <T> Mesaj arayüzünün tipi.
+     */
+    public <T> void send(Player player, Class<T> messageInterface, Function<? super T, ?> invocation) {
+        if (deliveryQueue != null) {
+            get(messageInterface);
+            deliveryQueue.enqueue(player, messageInterface, invocation);
+            return;
+        }
+        T messages = get(messageInterface);
+        String locale = builder.isPlayerLocalesEnabled() ? Locales.of(player) : null;
+        Object message = locale == null
+                ? invocation.apply(messages)
+                : Locales.withLocale(locale, () -> invocation.apply(messages));
+        deliver(Collections.singletonList(player), message);
+    }
+
+    /**
+     * {@link #send(Player, Class, Function)} ile aynıdır, ancak mesaj metodu ve argümanları doğrudan verilir;
+     * kuyruğa alırken çağrının kaydedilmesine gerek kalmaz ve hiçbir kod iki kez çalıştırılmaz.
+     * @param player Mesajı alacak oyuncu.
+     * @param messageInterface Mesaj arayüzünün sınıfı.
+     * @param method Arayüzün mesaj metodu.
+     * @param args Metodun argümanları, tanım sırasıyla.
+     * @throws IllegalArgumentException Metot bu arayüze ait değilse veya argüman sayısı uyuşmuyorsa.
+     */
+    public void send(Player player, Class<?> messageInterface, Method method, Object... args) {
+        Object[] arguments = args == null ? new Object[0] : args.clone();
+        if (!method.getDeclaringClass().isAssignableFrom(messageInterface)) {
+            throw new IllegalArgumentException(method + " is not a method of " + messageInterface.getName() + ".");
+        }
+        if (arguments.length != method.getParameterCount()) {
+            throw new IllegalArgumentException(method.getDeclaringClass().getSimpleName() + "." + method.getName() + " expects "
+                    + method.getParameterCount() + " argument(s) but " + arguments.length + " were given.");
+        }
+        if (deliveryQueue != null) {
+            get(messageInterface);
+            deliveryQueue.enqueue(player, messageInterface, method, arguments);
+            return;
+        }
+        String locale = builder.isPlayerLocalesEnabled() ? Locales.of(player) : null;
+        Object message = locale == null
+                ? invoke(messageInterface, method, arguments)
+                : Locales.withLocale(locale, () -> invoke(messageInterface, method, arguments));
+        deliver(Collections.singletonList(player), message);
+    }
+
+    /**
+     * Bir mesaj metodunu, arayüzün işleyicisi üzerinden sıra numarasıyla işler. Dosya tabanlı olmayan
+     * arayüzlerde metot arayüz örneği üzerinde çağrılır.
+     */
+    Object invoke(Class<?> messageInterface, Method method, Object[] args) {
+        Object messages = get(messageInterface);
+        MessageProxyHandler handler = handlerOf(messageInterface);
+        if (handler != null) {
+            int ordinal = handler.ordinal(method);
+            if (ordinal < 0) {
+                throw new IllegalArgumentException(method + " is not a @Message method of " + messageInterface.getName() + ".");
+            }
+            return handler.dispatch(ordinal, args);
+        }
+        try {
+            return method.invoke(messages, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Bir kez işlenmiş mesajı, oyuncuların Adventure audience'ları üzerinden iletir.
+     */
+    void deliver(Collection<? extends Player> players, Object message) {
+        List<Audience> audiences = new ArrayList<>(players.size());
+        for (Player player : players) {
+            audiences.add(adventure.player(player));
+        }
+        Audience audience = Audience.audience(audiences);
+
+        if (message instanceof Component) {
+            audience.sendMessage((Component) message);
+        } else if (message instanceof List) {
+            for (Object line : (List<?>) message) {
+                audience.sendMessage(LegacyComponentSerializer.legacySection().deserialize(String.valueOf(line)));
+            }
+        } else if (message != null) {
+            audience.sendMessage(LegacyComponentSerializer.legacySection().deserialize(String.valueOf(message)));
+        }
+    }
+
     /**
      * Dosya tabanlı mesajları diskten yeniden yükler.
-     * Değişikliklerin anında yansımasını sağlar.
+     * Varsayılan dildeki değişiklikler anında yansır; bellekteki oyuncu dilleri arka planda yeniden yüklenir.
      */
     public void reload() {
         plugin.getLogger().info("[LanguageManager] Reloading language files...");
-        for (Map.Entry<Class<?>, Object> entry : messageProxies.entrySet()) {
-            Object proxyHandler = java.lang.reflect.Proxy.getInvocationHandler(entry.getValue());
-            if (proxyHandler instanceof MessageProxyHandler) {
-                ((MessageProxyHandler) proxyHandler).reloadConfig(builder);
-            }
+        for (MessageProxyHandler handler : fileHandlers) {
+            handler.reloadConfig(builder);
         }
         plugin.getLogger().info("[LanguageManager] Reload complete.");
     }
 
+    /**
+     * Dosya tabanlı mesajları, ana thread'i bekletmeden arka planda yeniden yükler.
+     * Dosya okumaları bu yükleme için açılan, dosya öneki ve işlemci sayısıyla sınırlı bir thread havuzunda
+     * yapılır; havuz yükleme bittiğinde kapatılır. Ortak havuz engelleyen disk okumalarıyla meşgul edilmez.
+     * @return Yükleme bittiğinde dosya hatalarını raporlayan future.
+     * @see #reloadAsync(Executor)
+     */
+    public CompletableFuture<ReloadResult> reloadAsync() {
+        long prefixes = fileHandlers.stream().map(MessageProxyHandler::getFilePrefix).distinct().count();
+        int threads = (int) Math.max(1, Math.min(prefixes, Runtime.getRuntime().availableProcessors()));
+        ExecutorService reloadExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "LanguageManager-" + plugin.getName() + "-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<ReloadResult> result;
+        try {
+            result = reloadAsync(reloadExecutor);
+        } catch (RuntimeException e) {
+            reloadExecutor.shutdown();
+            throw e;
+        }
+        result.whenComplete((reloaded, error) -> reloadExecutor.shutdown());
+        return result;
+    }
+
+    /**
+     * Dosya tabanlı mesajları verilen executor üzerinde, dosyaları paralel okuyarak yeniden yükler.
+     * <p>
+     * Önce tüm dosyalar ayrıştırılıp değişmez kataloglar hazırlanır; ardından her arayüzün katalogu
+     * tek bir atomik yazma ile yayınlanır. Okuyucular hiçbir zaman yarım yüklenmiş bir katalog görmez.
+     * Okunamayan dosyaları kullanan arayüzler önceki kataloglarıyla çalışmaya devam eder.
+     * Aynı dosya önekini paylaşan arayüzler, dosyaya eşzamanlı yazılmaması için sırayla işlenir.
+     * <p>
+     * Future, executor'ın thread'inde tamamlanır; Bukkit API'si kullanılacaksa sonuç ana thread'e aktarılmalıdır.
+     * @param executor Dosyaların okunacağı executor.
+     * @return Yükleme bittiğinde dosya hatalarını raporlayan future.
+     */
+    public CompletableFuture<ReloadResult> reloadAsync(Executor executor) {
+        plugin.getLogger().info("[LanguageManager] Reloading language files asynchronously...");
+        Map<String, List<MessageProxyHandler>> handlersByFile = new LinkedHashMap<>();
+        for (MessageProxyHandler handler : fileHandlers) {
+            handlersByFile.computeIfAbsent(handler.getFilePrefix(), prefix -> new ArrayList<>()).add(handler);
+        }
+
+        Map<MessageProxyHandler, MessageProxyHandler.Snapshot> snapshots = new ConcurrentHashMap<>();
+        Map<String, Throwable> errors = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(handlersByFile.size());
+        for (List<MessageProxyHandler> handlers : handlersByFile.values()) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (MessageProxyHandler handler : handlers) {
+                    try {
+                        snapshots.put(handler, handler.loadSnapshot(builder));
+                    } catch (LanguageFileException e) {
+                        errors.put(e.getFileName(), e.getCause());
+                    } catch (RuntimeException e) {
+                        errors.put(handler.getFilePrefix() + "_" + builder.getLocale() + ".yml", e);
+                    }
+                }
+            }, executor));
+        }
+
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            for (Map.Entry<MessageProxyHandler, MessageProxyHandler.Snapshot> entry : snapshots.entrySet()) {
+                entry.getKey().publish(entry.getValue());
+            }
+            if (errors.isEmpty()) {
+                plugin.getLogger().info("[LanguageManager] Reload complete.");
+            } else {
+                plugin.getLogger().warning("[LanguageManager] Reload completed with errors in: " + String.join(", ", errors.keySet()));
+            }
+            return new ReloadResult(snapshots.size(), errors);
+        });
+    }
+
     /**
      * Eklenti devre dışı bırakılırken çağrılmalıdır.
-     * Adventure API kaynaklarını serbest bırakır.
+     * Adventure API kaynaklarını, dosya izleyicisini ve dil yükleyici thread'ini serbest bırakır.
+     * Dil dosyalarına henüz yazılmamış eksik anahtarlar ve teslimat kuyruğunda bekleyen mesajlar bu sırada gönderilir.
      */
     public void disable() {
+        builder.flushPendingWrites();
+        if (this.deliveryQueue != null) {
+            this.deliveryQueue.close();
+        }
         if (this.adventure != null) {
             this.adventure.close();
         }
+        if (this.fileWatcher != null) {
+            this.fileWatcher.close();
+        }
+        if (builder.getLocaleExecutor() != null) {
+            builder.getLocaleExecutor().shutdownNow();
+        }
     }
 
     /**
@@ -1,8 +1,17 @@
 package com.bentahsin.languagemanager;
 
 import com.bentahsin.languagemanager.annotations.*;
+import com.bentahsin.languagemanager.catalog.CatalogCache;
+import com.bentahsin.languagemanager.catalog.CompactCatalog;
+import com.bentahsin.languagemanager.catalog.MessageCatalog;
+import com.bentahsin.languagemanager.locale.Locales;
+import com.bentahsin.languagemanager.metrics.MetricsRegistry;
+import com.bentahsin.languagemanager.proxy.GeneratedMessages;
+import com.bentahsin.languagemanager.proxy.MessageDispatcher;
 import com.bentahsin.languagemanager.proxy.MessageProxyHandler;
 import com.bentahsin.languagemanager.proxy.SystemMessageProxyHandler;
+import com.bentahsin.languagemanager.util.PlaceholderCache;
+import com.bentahsin.languagemanager.util.StringPool;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
@@ -10,9 +19,19 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * LanguageManager'ı yapılandırmak ve oluşturmak için kullanılan akıcı API.
@@ -26,11 +45,33 @@ public final class LanguageManagerBuilder {
     private String locale = "en";
     private String prefix = "";
     private boolean papiHook = false;
+    private PlaceholderCache papiCache;
+    private boolean playerLocales = false;
+    private int maxLoadedLocales = 16;
+    private long localeIdleMillis = TimeUnit.MINUTES.toMillis(10);
+    private boolean fileWatcher = false;
+    private long fileWatcherDebounceMillis = 500;
+    private CatalogCache catalogCache;
+    private boolean compactStorage = false;
+    private int compactHotCacheSize = 64;
+    private boolean compactOffHeap = false;
+    private boolean deliveryQueue = false;
+    private int deliveryWindowTicks = 1;
+    private String deliveryCountSuffix;
+    private InitializationMode initializationMode = InitializationMode.EAGER;
+    private MetricsRegistry metrics;
     private BukkitAudiences adventure;
-    private MiniMessage miniMessage;
+    private final MiniMessage miniMessage = MiniMessage.miniMessage();
+    private final Map<Class<?>, Map<String, String>> messageDefaults = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> localeFallbacks = new HashMap<>();
+    private final Map<String, List<String>> fallbackChains = new ConcurrentHashMap<>();
+    private final StringPool stringPool = new StringPool();
+    private final LanguageFileStore files;
+    private ScheduledExecutorService localeExecutor;
 
     public LanguageManagerBuilder(JavaPlugin plugin) {
         this.plugin = plugin;
+        this.files = new LanguageFileStore(plugin, stringPool);
     }
 
     /**
@@ -44,6 +85,51 @@ public final class LanguageManagerBuilder {
         return this;
     }
 
+    /**
+     * Mesajların, alıcı oyuncunun istemci diline göre çözülmesini sağlar.
+     * Alıcı, metodun ilk OfflinePlayer parametresidir; böyle bir parametre yoksa
+     * veya oyuncunun diline ait dosya bulunamazsa withLocale ile ayarlanan dil kullanılır.
+     * Diğer dillerin dosyaları ilk kullanımda arka planda yüklenir.
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withPlayerLocales() {
+        this.playerLocales = true;
+        return this;
+    }
+
+    /**
+     * Oyuncuya özel dil desteğinde, bellekte tutulacak dil paketlerinin sınırlarını ayarlar.
+     * Varsayılan: en fazla 16 dil, 10 dakika boşta kalma süresi.
+     * @param maxLoadedLocales Varsayılan dil dışında aynı anda bellekte tutulacak azami dil sayısı.
+     * @param idleMinutes Kullanılmayan bir dilin bellekten atılacağı süre (dakika).
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withLocaleEviction(int maxLoadedLocales, long idleMinutes) {
+        this.maxLoadedLocales = maxLoadedLocales;
+        this.localeIdleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+        return this;
+    }
+
+    /**
+     * Bir dilde bulunmayan anahtarların hangi dillerde, hangi sırayla aranacağını tanımlar.
+     * Tanımlanmayan bölgesel diller kendi ana dillerine (örn. "pt_br" → "pt") düşer; her zincir
+     * @Messages.defaultLocale ile biter. Zincirler yüklemede tek bir katalogda birleştirilir,
+     * böylece mesaj işlenirken zincir gezilmez.
+     * Örn: {@code withLocaleFallback("pt_br", "pt", "es")} ile "pt_br" → "pt" → "es" → "en".
+     * @param locale Geri düşüşü tanımlanan dil kodu.
+     * @param fallbacks Sırayla denenecek dil kodları.
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withLocaleFallback(String locale, String... fallbacks) {
+        List<String> normalized = new ArrayList<>(fallbacks.length);
+        for (String fallback : fallbacks) {
+            normalized.add(Locales.normalize(fallback));
+        }
+        this.localeFallbacks.put(Locales.normalize(locale), normalized);
+        this.fallbackChains.clear();
+        return this;
+    }
+
     /**
      * Dosya tabanlı mesajların başına eklenecek bir önek (prefix) ayarlar.
      * @param prefix Mesaj öneki (renk kodları desteklenir).
@@ -54,6 +140,116 @@ public final class LanguageManagerBuilder {
         return this;
     }
 
+    /**
+     * Dil dosyalarındaki değişikliklerin otomatik olarak algılanıp yüklenmesini sağlar.
+     * Eklenti veri klasörü izlenir ve yalnızca değişen dosyalar yeniden okunur.
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withFileWatcher() {
+        return withFileWatcher(500);
+    }
+
+    /**
+     * Dil dosyalarındaki değişikliklerin otomatik olarak algılanıp yüklenmesini sağlar.
+     * @param debounceMillis Son değişiklikten sonra yeniden yüklemeden önce beklenecek süre (milisaniye).
+     * Bu süre içinde gelen değişiklikler tek bir yüklemede birleştirilir.
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withFileWatcher(long debounceMillis) {
+        this.fileWatcher = true;
+        this.fileWatcherDebounceMillis = debounceMillis;
+        return this;
+    }
+
+    /**
+     * Ayrıştırılmış dil dosyalarının, veri klasöründeki ".languagemanager-cache" klasöründe
+     * ikili biçimde önbelleğe alınmasını sağlar. Bir YAML dosyası değişmediği sürece sonraki
+     * açılışlarda dosya ayrıştırılmadan önbellekten okunur; değiştiğinde önbellek otomatik yenilenir.
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withCatalogCache() {
+        this.catalogCache = new CatalogCache(new File(plugin.getDataFolder(), ".languagemanager-cache"), plugin.getLogger());
+        return this;
+    }
+
+    /**
+     * Oyuncu dilleri için sıkıştırılmış depolamayı etkinleştirir (64 mesajlık sıcak önbellek, JVM yığını içinde).
+     * @return Zincirleme için builder'ın kendisi.
+     * @see #withCompactStorage(int, boolean)
+     */
+    public LanguageManagerBuilder withCompactStorage() {
+        return withCompactStorage(64, false);
+    }
+
+    /**
+     * Varsayılan dil dışındaki dillerin metinlerinin, dil dosyası başına tek bir bitişik UTF-8 tamponda
+     * ve bir ofset indeksinde tutulmasını sağlar. Mesajlar ilk kullanıldıklarında tampondan çözülüp derlenir
+     * ve arayüz ile dil başına küçük bir sıcak önbellekte tutulur; önbellekten düşen mesajlar gerektiğinde
+     * yeniden çözülür. Component döndüren mesajlar yükleme anında derlenir ve önbelleğe girmez. Çok sayıda dil
+     * yükleyen sunucularda bellek kullanımını ve çöp toplama maliyetini düşürür. Varsayılan dil her zaman
+     * tamamen derlenmiş olarak tutulur.
+     * @param hotCacheSize Arayüz ve dil başına derlenmiş olarak tutulacak metin ve liste mesajı sayısı
+     *                     (2'nin kuvvetine yuvarlanır).
+     * @param offHeap true ise tamponlar JVM yığını dışında (doğrudan bellek) ayrılır.
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withCompactStorage(int hotCacheSize, boolean offHeap) {
+        this.compactStorage = true;
+        this.compactHotCacheSize = Math.max(1, hotCacheSize);
+        this.compactOffHeap = offHeap;
+        return this;
+    }
+
+    /**
+     * Mesaj arayüzlerinin build() sırasında nasıl hazırlanacağını ayarlar.
+     * Her arayüzün hazırlanma süresi {@link LanguageManager#getInitializationTimings()} ile alınabilir.
+     * @param mode Hazırlama modu (varsayılan: EAGER).
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withInitialization(InitializationMode mode) {
+        this.initializationMode = mode;
+        return this;
+    }
+
+    /**
+     * Mesaj başına çağrı sayısı, işleme süresi histogramı, eksik anahtar ve dil geri düşüşü
+     * sayaçlarını etkinleştirir. Ölçümler {@link LanguageManager#getMetrics()} ile alınır.
+     * Bu ayar kapalıyken işleme yolunda ölçüm için hiçbir iş yapılmaz.
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withMetrics() {
+        this.metrics = new MetricsRegistry();
+        return this;
+    }
+
+    /**
+     * {@link LanguageManager#send} ile yapılan gönderimler için, aynı tick içindeki
+     * tekrarları birleştiren teslimat kuyruğunu etkinleştirir. Sayı eki gösterilmez.
+     * @return Zincirleme için builder'ın kendisi.
+     * @see #withDeliveryQueue(int, String)
+     */
+    public LanguageManagerBuilder withDeliveryQueue() {
+        return withDeliveryQueue(1, null);
+    }
+
+    /**
+     * {@link LanguageManager#send} ile yapılan gönderimlerin kuyruğa alınmasını ve
+     * her tick tek bir görevle toplu olarak gönderilmesini sağlar. Aynı oyuncuya, aynı mesaj ve argümanlarla
+     * bekleme süresi içinde yapılan gönderimler tek bir mesajda birleştirilir; mesaj yalnızca bir kez işlenir.
+     * Örn: {@code withDeliveryQueue(2, " &7(x{count})")} ile iki tick içinde beş kez gönderilen
+     * bir mesaj, oyuncuya bir kez ve "(x5)" ekiyle gider.
+     * @param windowTicks Bir gönderimin, tekrarları beklenerek kuyrukta tutulacağı süre (tick, en az 1).
+     * @param countSuffix Birden çok kez gönderilen mesajların sonuna eklenecek metin; {count} sayı ile
+     * değiştirilir, renk kodları desteklenir. null ise ek gösterilmez.
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withDeliveryQueue(int windowTicks, String countSuffix) {
+        this.deliveryQueue = true;
+        this.deliveryWindowTicks = Math.max(1, windowTicks);
+        this.deliveryCountSuffix = countSuffix;
+        return this;
+    }
+
     /**
      * Kütüphaneye yönetilecek mesaj arayüzlerini kaydeder.
      * @param interfaces Kaydedilecek arayüz sınıfları.
@@ -78,103 +274,435 @@ public final class LanguageManagerBuilder {
         return this;
     }
 
+    /**
+     * PlaceholderAPI sonuçlarının oyuncu ve placeholder bazında önbelleğe alınmasını sağlar.
+     * Aynı oyuncu için aynı placeholder, verilen süre dolana kadar PlaceholderAPI çağrılmadan
+     * önbellekten işlenir. Yalnızca withPapiHook() ile birlikte etkilidir.
+     * @param ttlTicks Bir sonucun geçerli kalacağı süre (tick, 20 tick = 1 saniye).
+     * @return Zincirleme için builder'ın kendisi.
+     */
+    public LanguageManagerBuilder withPapiCache(long ttlTicks) {
+        this.papiCache = ttlTicks > 0 ? new PlaceholderCache(ttlTicks) : null;
+        return this;
+    }
+
     /**
      * Yapılandırmayı tamamlar ve kullanıma hazır bir LanguageManager örneği oluşturur.
      * @return Yeni LanguageManager örneği.
      */
     public LanguageManager build() {
         this.adventure = BukkitAudiences.create(plugin);
-        this.miniMessage = MiniMessage.miniMessage();
+        if (playerLocales) {
+            this.localeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "LanguageManager-" + plugin.getName() + "-locales");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
 
-        Map<Class<?>, Object> builtProxies = new HashMap<>();
+        Map<Class<?>, Object> builtProxies = new ConcurrentHashMap<>();
+        List<MessageProxyHandler> fileHandlers = new CopyOnWriteArrayList<>();
+        Map<Class<?>, Duration> timings = new ConcurrentHashMap<>();
 
+        List<Class<?>> validInterfaces = new ArrayList<>();
         for (Class<?> interfaceClass : messageInterfaces) {
-            Object proxy;
-            if (interfaceClass.isInterface() && interfaceClass.isAnnotationPresent(Messages.class)) {
-                proxy = Proxy.newProxyInstance(
-                        interfaceClass.getClassLoader(),
-                        new Class[]{interfaceClass},
-                        new MessageProxyHandler(this, interfaceClass)
-                );
-
-            } else if (interfaceClass.isInterface() && interfaceClass.isAnnotationPresent(SystemMessages.class)) {
-                SystemMessages config = interfaceClass.getAnnotation(SystemMessages.class);
-                Map<String, Map<String, String>> translations = parseSystemMessages(interfaceClass);
-                proxy = Proxy.newProxyInstance(
-                        interfaceClass.getClassLoader(),
-                        new Class[]{interfaceClass},
-                        new SystemMessageProxyHandler(this, config, translations)
-                );
-
+            if (isMessageInterface(interfaceClass)) {
+                validInterfaces.add(interfaceClass);
             } else {
                 plugin.getLogger().warning("[LanguageManager] " + interfaceClass.getName() + " is not a valid message interface. Skipping.");
-                continue;
             }
-            builtProxies.put(interfaceClass, proxy);
         }
-        return new LanguageManager(plugin, this, builtProxies, adventure);
+
+        long start = System.nanoTime();
+        if (initializationMode == InitializationMode.PARALLEL) {
+            initializeParallel(validInterfaces, builtProxies, fileHandlers, timings);
+        } else if (initializationMode == InitializationMode.EAGER) {
+            for (Class<?> interfaceClass : validInterfaces) {
+                builtProxies.put(interfaceClass, initialize(interfaceClass, fileHandlers, timings));
+            }
+        }
+        if (initializationMode != InitializationMode.LAZY && !timings.isEmpty()) {
+            Map.Entry<Class<?>, Duration> slowest = Collections.max(timings.entrySet(), Map.Entry.comparingByValue());
+            plugin.getLogger().info("[LanguageManager] Initialized " + timings.size() + " message interfaces in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms (slowest: "
+                    + slowest.getKey().getSimpleName() + ", " + slowest.getValue().toMillis() + " ms).");
+            plugin.getLogger().info("[LanguageManager] String pool: " + stringPool.stats() + ".");
+        }
+
+        if (localeExecutor != null) {
+            localeExecutor.scheduleWithFixedDelay(() -> {
+                for (MessageProxyHandler handler : fileHandlers) {
+                    handler.evictIdleLocales();
+                }
+                releaseUnusedFiles(fileHandlers);
+            }, 1, 1, TimeUnit.MINUTES);
+        }
+        return new LanguageManager(plugin, this, builtProxies, fileHandlers, timings, adventure);
     }
 
     /**
-     * Belirtilen arayüz için dil dosyasını yükler veya oluşturur/günceller.
-     * @param interfaceClass İşlenecek mesaj arayüzü.
-     * @param config Arayüzün @Messages anotasyonu.
-     * @return Yüklenmiş ve güncellenmiş YamlConfiguration nesnesi.
+     * @param interfaceClass Kontrol edilecek sınıf.
+     * @return Sınıf kayıtlı ve @Messages veya @SystemMessages ile işaretli bir arayüzse true.
      */
-    public YamlConfiguration loadOrUpdateMessagesFile(Class<?> interfaceClass, Messages config) {
-        String fileName = config.filePrefix() + "_" + locale + ".yml";
-        File messageFile = new File(plugin.getDataFolder(), fileName);
-        YamlConfiguration yamlConfig = new YamlConfiguration();
-        boolean modified = false;
+    boolean isMessageInterface(Class<?> interfaceClass) {
+        return messageInterfaces.contains(interfaceClass) && interfaceClass.isInterface()
+                && (interfaceClass.isAnnotationPresent(Messages.class) || interfaceClass.isAnnotationPresent(SystemMessages.class));
+    }
+
+    /**
+     * Tek bir mesaj arayüzünü hazırlar ve hazırlanma süresini kaydeder.
+     * @param interfaceClass Hazırlanacak, geçerli bir mesaj arayüzü.
+     * @param fileHandlers Dosya tabanlı işleyicinin ekleneceği liste.
+     * @param timings Hazırlanma süresinin yazılacağı harita.
+     * @return Arayüzü uygulayan nesne.
+     */
+    Object initialize(Class<?> interfaceClass, List<MessageProxyHandler> fileHandlers, Map<Class<?>, Duration> timings) {
+        long start = System.nanoTime();
+        Object proxy;
+        if (interfaceClass.isAnnotationPresent(Messages.class)) {
+            MessageProxyHandler handler = new MessageProxyHandler(this, interfaceClass);
+            fileHandlers.add(handler);
+            proxy = createInstance(interfaceClass, handler);
+        } else {
+            SystemMessages config = interfaceClass.getAnnotation(SystemMessages.class);
+            Map<Method, Map<String, String>> translations = parseSystemMessages(interfaceClass);
+            proxy = createInstance(interfaceClass, new SystemMessageProxyHandler(this, interfaceClass, config, translations));
+        }
+        timings.put(interfaceClass, Duration.ofNanos(System.nanoTime() - start));
+        return proxy;
+    }
 
+    /**
+     * Arayüzleri bu LanguageManager'a ait, yalnızca hazırlık süresince yaşayan bir thread havuzunda paralel
+     * olarak hazırlar ve hepsi bitene kadar bekler. Ortak ForkJoin havuzu, sunucudaki diğer eklentilerle
+     * paylaşıldığı ve dosya okuma gibi bloklayan işler için uygun olmadığı için kullanılmaz.
+     * Aynı dosya önekini paylaşan arayüzler aynı görevde sırayla hazırlanır.
+     */
+    private void initializeParallel(List<Class<?>> interfaces, Map<Class<?>, Object> builtProxies,
+                                    List<MessageProxyHandler> fileHandlers, Map<Class<?>, Duration> timings) {
+        Map<String, List<Class<?>>> groups = new LinkedHashMap<>();
+        for (Class<?> interfaceClass : interfaces) {
+            String group = interfaceClass.isAnnotationPresent(Messages.class)
+                    ? "file:" + interfaceClass.getAnnotation(Messages.class).filePrefix()
+                    : "system:" + interfaceClass.getName();
+            groups.computeIfAbsent(group, key -> new ArrayList<>()).add(interfaceClass);
+        }
+
+        int threads = Math.max(1, Math.min(groups.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService initExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "LanguageManager-" + plugin.getName() + "-init");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(groups.size());
         try {
-            if (!messageFile.exists()) {
-                plugin.getLogger().info("[LanguageManager] Creating default language file: " + fileName);
-                for (Method method : interfaceClass.getDeclaredMethods()) {
-                    if (method.isAnnotationPresent(Message.class)) {
-                        Message message = method.getAnnotation(Message.class);
-                        yamlConfig.set(message.key(), message.value());
+            for (List<Class<?>> group : groups.values()) {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    for (Class<?> interfaceClass : group) {
+                        builtProxies.put(interfaceClass, initialize(interfaceClass, fileHandlers, timings));
                     }
+                }, initExecutor));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        } finally {
+            initExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Bir mesaj arayüzü için kullanılacak nesneyi oluşturur.
+     * LanguageManager-processor tarafından derleme zamanında üretilmiş bir implementasyon
+     * varsa o tercih edilir; yoksa bir JDK dinamik proxy'si oluşturulur.
+     * @param interfaceClass Mesaj arayüzü.
+     * @param handler Çağrıları işleyecek işleyici.
+     * @return Arayüzü uygulayan nesne.
+     */
+    private <H extends InvocationHandler & MessageDispatcher> Object createInstance(Class<?> interfaceClass, H handler) {
+        Object generated = GeneratedMessages.instantiate(interfaceClass, handler, plugin.getLogger());
+        if (generated != null) {
+            return generated;
+        }
+        return Proxy.newProxyInstance(
+                interfaceClass.getClassLoader(),
+                new Class[]{interfaceClass},
+                handler
+        );
+    }
+
+    /**
+     * Belirtilen arayüz için dil dosyasını düzleştirilmiş bir katalog olarak yükler veya oluşturur/günceller.
+     * Okuma hataları loglanır ve bu durumda boş bir katalog döndürülür.
+     * @param interfaceClass İşlenecek mesaj arayüzü.
+     * @param config Arayüzün @Messages anotasyonu.
+     * @return Dosyanın katalogu.
+     */
+    public MessageCatalog loadOrUpdateCatalog(Class<?> interfaceClass, Messages config) {
+        try {
+            return readOrUpdateCatalog(interfaceClass, config);
+        } catch (LanguageFileException e) {
+            plugin.getLogger().severe("[LanguageManager] An error occurred with language file: " + e.getFileName());
+            plugin.getLogger().severe(e.getCause().getMessage());
+            return MessageCatalog.empty();
+        }
+    }
+
+    /**
+     * Belirtilen arayüz için varsayılan dilin katalogunu, dil zincirini tek bir katalogda birleştirerek yükler.
+     * Zincirdeki her dosya yalnızca kendi çevirilerini içerir; bir dosyada olmayan anahtar zincirin sonraki
+     * dilinden alınır. Hiçbir dosyada olmayan anahtarlar katalogda yer almaz; bu mesajlar derlenirken
+     * @Message değerine düşer ve eksik anahtar olarak sayılır. Eksik @Message değerleri yalnızca
+     * @Messages.defaultLocale dosyasına, toplu olarak ve ana thread dışında yazılır.
+     * Dosyalar değişmediği sürece yeniden ayrıştırılmaz ve aynı dosyayı kullanan arayüzler aynı katalogu paylaşır.
+     * @param interfaceClass İşlenecek mesaj arayüzü.
+     * @param config Arayüzün @Messages anotasyonu.
+     * @return Zincirdeki dosyaların birleştirilmiş katalogu.
+     * @throws LanguageFileException Zincirdeki bir dosya okunamaz veya ayrıştırılamazsa.
+     */
+    public MessageCatalog readOrUpdateCatalog(Class<?> interfaceClass, Messages config) throws LanguageFileException {
+        List<String> chain = getFallbackChain(locale, config);
+        MessageCatalog catalog = MessageCatalog.empty();
+        for (String code : chain) {
+            MessageCatalog file = files.read(fileOf(config, code), catalogCache);
+            if (file != null) {
+                catalog = catalog.size() == 0 ? file : catalog.withFallback(file);
+            }
+        }
+
+        File baseFile = fileOf(config, chain.get(chain.size() - 1));
+        MessageCatalog base = files.read(baseFile, catalogCache);
+        Map<String, String> defaults = defaultsOf(interfaceClass);
+        Map<String, String> missing = null;
+        for (Map.Entry<String, String> entry : defaults.entrySet()) {
+            if (base == null || !base.contains(entry.getKey())) {
+                if (missing == null) {
+                    missing = new LinkedHashMap<>();
                 }
-                yamlConfig.save(messageFile);
-            } else {
-                yamlConfig.load(messageFile);
-                for (Method method : interfaceClass.getDeclaredMethods()) {
-                    if (method.isAnnotationPresent(Message.class)) {
-                        Message message = method.getAnnotation(Message.class);
-                        if (!yamlConfig.contains(message.key())) {
-                            yamlConfig.set(message.key(), message.value());
-                            modified = true;
-                        }
-                    }
+                missing.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (missing != null) {
+            files.queueDefaults(baseFile, missing);
+        }
+        return catalog;
+    }
+
+    /**
+     * Bir oyuncu dilinin katalogunu, dil zincirini tek bir katalogda birleştirerek yükler.
+     * Varsayılan dile veya yalnızca zincirin sonuna eklenen @Messages.defaultLocale'a ulaşılmadan önce
+     * bu dile özgü hiçbir dosya bulunamazsa null döndürülür; bu durumda oyuncuya varsayılan dilin paketi gösterilir.
+     * @param interfaceClass İşlenecek mesaj arayüzü.
+     * @param config Arayüzün @Messages anotasyonu.
+     * @param locale Normalleştirilmiş istemci dil kodu.
+     * @return Birleştirilmiş katalog; dile özgü dosya yoksa null.
+     * @throws LanguageFileException Zincirdeki bir dosya okunamaz veya ayrıştırılamazsa.
+     */
+    public MessageCatalog readLocaleCatalog(Class<?> interfaceClass, Messages config, String locale) throws LanguageFileException {
+        List<File> chain = localeFiles(config, locale);
+        if (chain == null) {
+            return null;
+        }
+        MessageCatalog catalog = null;
+        for (File path : chain) {
+            MessageCatalog file = files.read(path, catalogCache);
+            if (file != null) {
+                catalog = catalog == null ? file : catalog.withFallback(file);
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * readLocaleCatalog ile aynı dosyaları, birleştirmeden ve sıkıştırılmış kataloglar olarak okur.
+     * Bir anahtar, listedeki kataloglarda sırayla aranır. Dosyalar değişmediği sürece yeniden okunmaz
+     * ve aynı dosyayı kullanan arayüzler aynı tamponu paylaşır.
+     * @param interfaceClass İşlenecek mesaj arayüzü.
+     * @param config Arayüzün @Messages anotasyonu.
+     * @param locale Normalleştirilmiş istemci dil kodu.
+     * @return Zincirdeki mevcut dosyaların katalogları, en özelden en genele; dile özgü dosya yoksa null.
+     * @throws LanguageFileException Zincirdeki bir dosya okunamaz veya ayrıştırılamazsa.
+     */
+    public List<CompactCatalog> readCompactLocaleCatalogs(Class<?> interfaceClass, Messages config, String locale) throws LanguageFileException {
+        List<File> chain = localeFiles(config, locale);
+        if (chain == null) {
+            return null;
+        }
+        List<CompactCatalog> catalogs = new ArrayList<>(chain.size());
+        for (File file : chain) {
+            CompactCatalog catalog = files.readCompact(file, catalogCache, compactOffHeap);
+            if (catalog != null) {
+                catalogs.add(catalog);
+            }
+        }
+        return catalogs.isEmpty() ? null : catalogs;
+    }
+
+    /**
+     * @return Bir oyuncu dilinin zincirindeki mevcut dosyalar; varsayılan dile veya zincire yalnızca sonradan
+     * eklenen bir dile ulaşılmadan önce dile özgü bir dosya bulunamazsa null.
+     */
+    private List<File> localeFiles(Messages config, String locale) {
+        List<String> own = new ArrayList<>(4);
+        appendFallbacks(Locales.normalize(locale), own);
+        String defaultLocale = Locales.normalize(this.locale);
+        List<File> chain = null;
+        for (String code : getFallbackChain(locale, config)) {
+            if (chain == null && (code.equals(defaultLocale) || !own.contains(code))) {
+                return null;
+            }
+            File file = fileOf(config, code);
+            if (file.exists()) {
+                if (chain == null) {
+                    chain = new ArrayList<>(4);
                 }
-                if (modified) {
-                    plugin.getLogger().info("[LanguageManager] Updating language file with new messages: " + fileName);
-                    yamlConfig.save(messageFile);
+                chain.add(file);
+            }
+        }
+        return chain;
+    }
+
+    /**
+     * Bir dil için eksik anahtarların sırayla aranacağı dil kodlarını döndürür.
+     * Zincir dilin kendisiyle başlar; withLocaleFallback ile tanımlanmış geri düşüşler, tanımlanmamışsa
+     * bölgesel dillerin ana dili (örn. "pt_br" için "pt") ile devam eder ve her zaman
+     * @Messages.defaultLocale ile biter. Zincirler dil ve temel dil başına bir kez hesaplanır.
+     * @param locale Dil kodu.
+     * @param config Arayüzün @Messages anotasyonu.
+     * @return Normalleştirilmiş dil kodları, en özelden en genele.
+     */
+    public List<String> getFallbackChain(String locale, Messages config) {
+        String requested = Locales.normalize(locale);
+        String base = Locales.normalize(config.defaultLocale());
+        if (base == null) {
+            base = requested;
+        }
+        String baseLocale = base;
+        return fallbackChains.computeIfAbsent(requested + "|" + base, key -> {
+            List<String> chain = new ArrayList<>(4);
+            appendFallbacks(requested, chain);
+            chain.remove(baseLocale);
+            chain.add(baseLocale);
+            return Collections.unmodifiableList(chain);
+        });
+    }
+
+    private void appendFallbacks(String locale, List<String> chain) {
+        if (locale == null || chain.contains(locale)) {
+            return;
+        }
+        chain.add(locale);
+        List<String> next = localeFallbacks.get(locale);
+        if (next == null) {
+            List<String> candidates = Locales.candidates(locale);
+            next = candidates.subList(1, candidates.size());
+        }
+        for (String fallback : next) {
+            appendFallbacks(fallback, chain);
+        }
+    }
+
+    /**
+     * Normalleştirilmiş bir dil kodunun dosyasını döndürür. Varsayılan dil ve @Messages.defaultLocale için
+     * dosya adında yapılandırmada yazıldığı hali kullanılır (örn. "messages_pt_BR.yml").
+     */
+    private File fileOf(Messages config, String code) {
+        String name = code;
+        if (code.equals(Locales.normalize(locale))) {
+            name = locale;
+        } else if (code.equals(Locales.normalize(config.defaultLocale()))) {
+            name = config.defaultLocale();
+        }
+        return new File(plugin.getDataFolder(), config.filePrefix() + "_" + name + ".yml");
+    }
+
+    /**
+     * Bekleyen eksik anahtar yazmalarını hemen, çağıran thread'de dosyalara işler.
+     */
+    void flushPendingWrites() {
+        files.flush();
+    }
+
+    /**
+     * Artık hiçbir arayüzün varsayılan dilinde veya bellekteki oyuncu dillerinde kullanılmayan dosyaların
+     * kataloglarını dosya deposundan atar. Böylece bellekten atılan bir dilin katalogları da bellekte kalmaz.
+     * Dil yükleyici thread'inde, diller bellekten atıldıktan sonra çağrılır.
+     * @param fileHandlers Dosya tabanlı mesaj işleyicileri.
+     */
+    void releaseUnusedFiles(List<MessageProxyHandler> fileHandlers) {
+        Set<File> used = new HashSet<>();
+        for (MessageProxyHandler handler : fileHandlers) {
+            Messages config = handler.getInterfaceClass().getAnnotation(Messages.class);
+            for (String code : getFallbackChain(locale, config)) {
+                used.add(fileOf(config, code));
+            }
+            for (String loaded : handler.getLoadedLocales()) {
+                for (String code : getFallbackChain(loaded, config)) {
+                    used.add(fileOf(config, code));
+                }
+            }
+        }
+        files.retainOnly(used);
+    }
+
+    /**
+     * @return Arayüzün @Message anahtarları ve varsayılan değerleri; arayüz başına bir kez hesaplanır.
+     */
+    private Map<String, String> defaultsOf(Class<?> interfaceClass) {
+        return messageDefaults.computeIfAbsent(interfaceClass, type -> {
+            Map<String, String> defaults = new LinkedHashMap<>();
+            for (Method method : type.getDeclaredMethods()) {
+                Message message = method.getAnnotation(Message.class);
+                if (message != null) {
+                    defaults.put(message.key(), message.value());
                 }
             }
-        } catch (Exception e) {
-            plugin.getLogger().severe("[LanguageManager] An error occurred with language file: " + fileName);
-            plugin.getLogger().severe(e.getMessage());
+            return Collections.unmodifiableMap(defaults);
+        });
+    }
+
+    /**
+     * Belirtilen arayüz için dil dosyasını yükler veya oluşturur/günceller.
+     * Okuma hataları loglanır ve bu durumda boş bir yapılandırma döndürülür.
+     * @param interfaceClass İşlenecek mesaj arayüzü.
+     * @param config Arayüzün @Messages anotasyonu.
+     * @return Dil zinciri ve @Message varsayılanlarıyla tamamlanmış mesajları içeren YamlConfiguration nesnesi.
+     * @deprecated Kütüphane artık dosyaları düzleştirilmiş kataloglar olarak okur; {@link #loadOrUpdateCatalog}
+     * kullanılmalıdır. Bu metot da dosyayı ortak depo üzerinden okur ve eksik anahtarları toplu yazma kuyruğuna ekler.
+     */
+    @Deprecated
+    public YamlConfiguration loadOrUpdateMessagesFile(Class<?> interfaceClass, Messages config) {
+        YamlConfiguration yamlConfig = new YamlConfiguration();
+        MessageCatalog catalog = loadOrUpdateCatalog(interfaceClass, config).withDefaults(defaultsOf(interfaceClass));
+        for (Map.Entry<String, Object> entry : catalog.asMap().entrySet()) {
+            yamlConfig.set(entry.getKey(), entry.getValue());
         }
         return yamlConfig;
     }
 
     /**
      * Bir sistem mesajı arayüzündeki @Translation anotasyonlarını ayrıştırır.
+     * Çeviriler metot nesnesine göre tutulur; böylece aşırı yüklenmiş (overloaded) metotlar birbirinin
+     * çevirisini ezmez. Her metodun çevirileri tanım sırasını korur.
      * @param interfaceClass İşlenecek sistem mesajı arayüzü.
-     * @return Metot adına göre gruplanmış çeviriler haritası.
+     * @return Metoda göre gruplanmış çeviriler haritası.
      */
-    private Map<String, Map<String, String>> parseSystemMessages(Class<?> interfaceClass) {
-        Map<String, Map<String, String>> translations = new HashMap<>();
+    private Map<Method, Map<String, String>> parseSystemMessages(Class<?> interfaceClass) {
+        Map<Method, Map<String, String>> translations = new HashMap<>();
         for (Method method : interfaceClass.getDeclaredMethods()) {
-            Map<String, String> methodTranslations = new HashMap<>();
+            Map<String, String> methodTranslations = new LinkedHashMap<>();
             Translation[] annotations = method.getAnnotationsByType(Translation.class);
             for (Translation t : annotations) {
                 methodTranslations.put(t.locale(), t.value());
             }
             if (!methodTranslations.isEmpty()) {
-                translations.put(method.getName(), methodTranslations);
+                translations.put(method, methodTranslations);
             }
         }
         return translations;
@@ -184,5 +712,21 @@ public final class LanguageManagerBuilder {
     public String getLocale() { return locale; }
     public String getPrefix() { return prefix; }
     public boolean isPapiHookEnabled() { return papiHook; }
+    public PlaceholderCache getPapiCache() { return papiHook ? papiCache : null; }
+    public boolean isPlayerLocalesEnabled() { return playerLocales; }
+    public int getMaxLoadedLocales() { return maxLoadedLocales; }
+    public long getLocaleIdleMillis() { return localeIdleMillis; }
+    public ScheduledExecutorService getLocaleExecutor() { return localeExecutor; }
+    public boolean isFileWatcherEnabled() { return fileWatcher; }
+    public InitializationMode getInitializationMode() { return initializationMode; }
+    public long getFileWatcherDebounceMillis() { return fileWatcherDebounceMillis; }
     public MiniMessage getMiniMessage() { return miniMessage; }
+    public MetricsRegistry getMetrics() { return metrics; }
+    public StringPool getStringPool() { return stringPool; }
+    public boolean isCompactStorageEnabled() { return compactStorage; }
+    public int getCompactHotCacheSize() { return compactHotCacheSize; }
+    public boolean isCompactOffHeap() { return compactOffHeap; }
+    public boolean isDeliveryQueueEnabled() { return deliveryQueue; }
+    public int getDeliveryWindowTicks() { return deliveryWindowTicks; }
+    public String getDeliveryCountSuffix() { return deliveryCountSuffix; }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.bentahsin.languagemanager;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Bir {@link LanguageManager#reloadAsync()} çağrısının sonucu.
+ * Başarıyla yeniden yüklenen arayüz sayısını ve dosya adına göre hataları içerir.
+ * Hatalı dosyaları kullanan arayüzler önceki kataloglarını kullanmaya devam eder.
+ */
+public final class ReloadResult {
+
+    private final int reloadedInterfaces;
+    private final Map<String, Throwable> errors;
+
+    ReloadResult(int reloadedInterfaces, Map<String, Throwable> errors) {
+        this.reloadedInterfaces = reloadedInterfaces;
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * @return Hiçbir dosyada hata oluşmadıysa true.
+     */
+    public boolean isSuccessful() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * @return Yeni katalogu yayınlanan mesaj arayüzü sayısı.
+     */
+    public int getReloadedInterfaces() {
+        return reloadedInterfaces;
+    }
+
+    /**
+     * @return Dosya adına göre oluşan hatalar; hata yoksa boş.
+     */
+    public Map<String, Throwable> getErrors() {
+        return errors;
+    }
+}
@@ -18,7 +18,9 @@ public @interface Messages {
     String filePrefix() default "messages";
 
     /**
-     * Dosya bulunamazsa veya eksikse kullanılacak varsayılan dil kodu (locale).
+     * @Message değerlerinin yazıldığı temel dil kodu (locale).
+     * Bu dilin dosyası eksik anahtarlar için @Message değerleriyle oluşturulur/güncellenir ve her dil
+     * zincirinin son halkasıdır; diğer dil dosyalarında bulunmayan anahtarlar bu dosyadan alınır.
      */
     String defaultLocale() default "en";
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.bentahsin.languagemanager.catalog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Düzleştirilmiş katalogları, YAML dosyalarının yanında ikili (binary) bir önbellekte saklar.
+ * <p>
+ * Her önbellek dosyası, üretildiği YAML dosyasının boyutunu ve sürüm damgasını (örn. içerik özeti)
+ * içerir. Bu bilgiler çağıran tarafından kaynak okunmadan önce alınır; böylece ayrıştırma sırasında değişen
+ * bir dosyanın eski içeriği yeni bilgilerle önbelleğe yazılmaz. YAML dosyası değişmediği sürece katalog
+ * SnakeYAML çalıştırılmadan doğrudan önbellekten okunur; dosya değiştiğinde önbellek geçersiz sayılır ve
+ * bir sonraki yüklemede yeniden üretilir. Bozuk veya yarım kalmış önbellek dosyaları okunmaz, yok sayılır.
+ * <p>
+ * Dosya biçimi: sihirli sayı, sürüm, kaynak boyutu, kaynak damgası, girdi sayısı ve ardından
+ * her girdi için anahtar, tür (0: metin, 1: liste) ve UTF-8 kodlanmış değer(ler).
+ */
+public final class CatalogCache {
+
+    private static final int MAGIC = 0x4C4D4331;
+    private static final int VERSION = 2;
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_LIST = 1;
+
+    private final File directory;
+    private final Logger logger;
+
+    /**
+     * @param directory Önbellek dosyalarının yazılacağı klasör.
+     * @param logger Yazma hatalarının bildirileceği logger.
+     */
+    public CatalogCache(File directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * Bir YAML dosyası için geçerli bir önbellek varsa katalogu oradan okur.
+     * @param source Kaynak YAML dosyası.
+     * @param sourceLength Kaynağın, okunmadan önce alınmış boyutu.
+     * @param sourceVersion Kaynağın, okunmadan önce alınmış sürüm damgası.
+     * @return Önbellekteki katalog; önbellek yoksa, eskiyse, bozuksa veya okunamıyorsa null.
+     */
+    public MessageCatalog read(File source, long sourceLength, long sourceVersion) {
+        File cacheFile = cacheFileOf(source);
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(cacheFile.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION
+                    || in.readLong() != sourceLength || in.readLong() != sourceVersion) {
+                return null;
+            }
+            int count = readCount(in);
+            Map<String, Object> values = new HashMap<>(Math.max(16, count * 4 / 3 + 1));
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+                byte type = in.readByte();
+                if (type == TYPE_LIST) {
+                    int size = readCount(in);
+                    List<String> lines = new ArrayList<>(size);
+                    for (int l = 0; l < size; l++) {
+                        lines.add(readString(in));
+                    }
+                    values.put(key, lines);
+                } else {
+                    values.put(key, readString(in));
+                }
+            }
+            return MessageCatalog.of(values);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Bir katalogu, kaynak YAML dosyasının okunmadan önce alınmış boyut ve sürüm bilgisiyle önbelleğe yazar.
+     * Yazma önce her çağrıya özel bir geçici dosyaya yapılır ve ardından yerine taşınır; böylece aynı önbellek
+     * dosyasına eşzamanlı yazanlar birbirinin baytlarını karıştıramaz. Hatalar yalnızca loglanır.
+     * @param source Katalogun üretildiği YAML dosyası.
+     * @param sourceLength Kaynağın, okunmadan önce alınmış boyutu.
+     * @param sourceVersion Kaynağın, okunmadan önce alınmış sürüm damgası.
+     * @param catalog Yazılacak katalog.
+     */
+    public void write(File source, long sourceLength, long sourceVersion, MessageCatalog catalog) {
+        File cacheFile = cacheFileOf(source);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + catalog.size() * 64);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(sourceLength);
+                out.writeLong(sourceVersion);
+                out.writeInt(catalog.size());
+                for (Map.Entry<String, Object> entry : catalog.asMap().entrySet()) {
+                    writeString(out, entry.getKey());
+                    if (entry.getValue() instanceof List) {
+                        List<?> lines = (List<?>) entry.getValue();
+                        out.writeByte(TYPE_LIST);
+                        out.writeInt(lines.size());
+                        for (Object line : lines) {
+                            writeString(out, (String) line);
+                        }
+                    } else {
+                        out.writeByte(TYPE_STRING);
+                        writeString(out, (String) entry.getValue());
+                    }
+                }
+            }
+
+            Files.createDirectories(directory.toPath());
+            Path temp = Files.createTempFile(directory.toPath(), cacheFile.getName() + ".", ".tmp");
+            try {
+                Files.write(temp, bytes.toByteArray());
+                try {
+                    Files.move(temp, cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.warning("[LanguageManager] Could not write catalog cache " + cacheFile.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private File cacheFileOf(File source) {
+        return new File(directory, source.getName() + ".bin");
+    }
+
+    /**
+     * Bir sayı alanını okur; kalan bayt sayısından büyük veya negatif değerler dosyanın bozuk olduğunu gösterir.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new IOException("Corrupt catalog cache");
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,195 @@
+package com.bentahsin.languagemanager.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bir dil dosyasının tüm anahtar ve metinlerini tek bir bitişik UTF-8 tampon içinde tutan katalog.
+ * <p>
+ * {@link MessageCatalog} her metni ayrı bir {@link String} nesnesi olarak tutarken, bu sınıf bütün dosyayı
+ * tek bir {@code byte[]} (veya JVM yığını dışında, doğrudan bir {@link ByteBuffer}) ve bir ofset indeksi
+ * olarak saklar. Çöp toplayıcı için tüm katalog birkaç ilkel diziden ibarettir. Metinler yalnızca
+ * {@link #value(int)} çağrıldığında çözülür; çözülen metinlerin önbelleğe alınması çağırana bırakılır.
+ * <p>
+ * Girdi biçimi: anahtar uzunluğu, anahtar, tür (0: metin, 1: liste), metin için uzunluk ve baytlar,
+ * liste için satır sayısı ve her satır için uzunluk ve baytlar. Anahtarlar, girdi ofsetlerini tutan
+ * açık adresli bir hash tablosu ile bulunur.
+ * <p>
+ * Örnekler değişmezdir ve yalnızca mutlak konumlu okumalar yapıldığından thread'ler arasında güvenle paylaşılabilir.
+ */
+public final class CompactCatalog {
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_LIST = 1;
+
+    private final ByteBuffer data;
+    private final int[] offsets;
+    private final int[] hashes;
+    private final int size;
+
+    private CompactCatalog(ByteBuffer data, int[] offsets, int[] hashes, int size) {
+        this.data = data;
+        this.offsets = offsets;
+        this.hashes = hashes;
+        this.size = size;
+    }
+
+    /**
+     * Düzleştirilmiş bir katalogu sıkıştırılmış biçime çevirir.
+     * @param catalog Kaynak katalog.
+     * @param offHeap true ise metinler JVM yığını dışında, doğrudan bir tamponda tutulur.
+     * @return Yeni katalog.
+     */
+    public static CompactCatalog of(MessageCatalog catalog, boolean offHeap) {
+        Map<String, Object> values = catalog.asMap();
+        int capacity = Integer.highestOneBit(Math.max(4, values.size() * 2 - 1)) << 1;
+        int[] offsets = new int[capacity];
+        int[] hashes = new int[capacity];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, values.size() * 48));
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                int offset = out.size();
+                writeBytes(out, entry.getKey());
+                if (entry.getValue() instanceof List) {
+                    List<?> lines = (List<?>) entry.getValue();
+                    out.writeByte(TYPE_LIST);
+                    out.writeInt(lines.size());
+                    for (Object line : lines) {
+                        writeBytes(out, (String) line);
+                    }
+                } else {
+                    out.writeByte(TYPE_STRING);
+                    writeBytes(out, (String) entry.getValue());
+                }
+
+                int hash = entry.getKey().hashCode();
+                int index = mix(hash) & (capacity - 1);
+                while (offsets[index] != 0) {
+                    index = (index + 1) & (capacity - 1);
+                }
+                offsets[index] = offset + 1;
+                hashes[index] = hash;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] array = bytes.toByteArray();
+        ByteBuffer data;
+        if (offHeap) {
+            data = ByteBuffer.allocateDirect(array.length);
+            data.put(array);
+            data.flip();
+        } else {
+            data = ByteBuffer.wrap(array);
+        }
+        return new CompactCatalog(data.asReadOnlyBuffer(), offsets, hashes, values.size());
+    }
+
+    /**
+     * Bir anahtarın girdisini bulur. Bu işlem yükleme sırasında, mesajlar metotlara bağlanırken yapılır.
+     * @param key Noktalı tam anahtar.
+     * @return Girdinin tampondaki konumu; anahtar yoksa -1.
+     */
+    public int find(String key) {
+        int hash = key.hashCode();
+        byte[] encoded = null;
+        int mask = offsets.length - 1;
+        for (int index = mix(hash) & mask; offsets[index] != 0; index = (index + 1) & mask) {
+            if (hashes[index] != hash) {
+                continue;
+            }
+            int offset = offsets[index] - 1;
+            if (encoded == null) {
+                encoded = key.getBytes(StandardCharsets.UTF_8);
+            }
+            if (keyEquals(offset, encoded)) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bir girdinin değerini tampondan çözer.
+     * @param entry {@link #find(String)} ile bulunan girdi konumu.
+     * @return Metin değeri veya değişmez satır listesi.
+     */
+    public Object value(int entry) {
+        int position = entry + 4 + data.getInt(entry);
+        byte type = data.get(position++);
+        if (type == TYPE_STRING) {
+            return readString(position);
+        }
+        int count = data.getInt(position);
+        position += 4;
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = data.getInt(position);
+            lines.add(readString(position));
+            position += 4 + length;
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * @return Katalogdaki mesaj sayısı.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Metin tamponunun bayt cinsinden boyutu.
+     */
+    public int byteSize() {
+        return data.capacity();
+    }
+
+    /**
+     * @return Metinler JVM yığını dışında tutuluyorsa true.
+     */
+    public boolean isOffHeap() {
+        return data.isDirect();
+    }
+
+    private boolean keyEquals(int offset, byte[] key) {
+        if (data.getInt(offset) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (data.get(offset + 4 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readString(int position) {
+        int length = data.getInt(position);
+        byte[] bytes = new byte[length];
+        ByteBuffer view = data.duplicate();
+        view.position(position + 4);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,194 @@
+package com.bentahsin.languagemanager.catalog;
+
+import com.bentahsin.languagemanager.util.StringPool;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bir dil dosyasının düzleştirilmiş (flattened), değişmez hali.
+ * <p>
+ * YAML ağacı yükleme anında bir kez gezilir ve her mesaj, noktalı tam yolu ile tek bir
+ * {@link HashMap} içine yerleştirilir. Değerler ya {@link String} ya da değişmez bir
+ * {@code List<String>} olarak tutulur. Böylece okuma sırasında yol bölme ve iç içe
+ * bölümlerde gezinme yapılmaz ve {@code YamlConfiguration} nesnesi bellekte tutulmaz.
+ */
+public final class MessageCatalog {
+
+    private static final MessageCatalog EMPTY = new MessageCatalog(Collections.emptyMap());
+
+    private final Map<String, Object> values;
+
+    private MessageCatalog(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * @return Hiç mesaj içermeyen katalog.
+     */
+    public static MessageCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Bir YAML bölümünü düzleştirerek katalog oluşturur.
+     * Alt bölümler atlanır; listelerdeki ve skaler değerlerdeki sayı/boolean gibi
+     * değerler metne çevrilir.
+     * @param section Düzleştirilecek YAML bölümü.
+     * @return Değişmez katalog.
+     */
+    public static MessageCatalog of(ConfigurationSection section) {
+        Set<String> keys = section.getKeys(true);
+        Map<String, Object> values = new HashMap<>(Math.max(16, keys.size() * 4 / 3 + 1));
+        for (String key : keys) {
+            if (section.isConfigurationSection(key)) {
+                continue;
+            }
+            Object value = section.get(key);
+            if (value instanceof List) {
+                List<?> raw = (List<?>) value;
+                List<String> lines = new ArrayList<>(raw.size());
+                for (Object line : raw) {
+                    if (line != null) {
+                        lines.add(String.valueOf(line));
+                    }
+                }
+                values.put(key, Collections.unmodifiableList(lines));
+            } else if (value != null) {
+                values.put(key, String.valueOf(value));
+            }
+        }
+        return new MessageCatalog(values);
+    }
+
+    /**
+     * Düz bir anahtar-değer haritasından katalog oluşturur.
+     * Değerler {@link String} veya {@code List<String>} olmalıdır.
+     * @param values Noktalı anahtarlara göre değerler.
+     * @return Değişmez katalog.
+     */
+    public static MessageCatalog of(Map<String, ?> values) {
+        Map<String, Object> copy = new HashMap<>(Math.max(16, values.size() * 4 / 3 + 1));
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof List) {
+                List<String> lines = new ArrayList<>(((List<?>) value).size());
+                for (Object line : (List<?>) value) {
+                    lines.add(String.valueOf(line));
+                }
+                copy.put(entry.getKey(), Collections.unmodifiableList(lines));
+            } else if (value != null) {
+                copy.put(entry.getKey(), value.toString());
+            }
+        }
+        return new MessageCatalog(copy);
+    }
+
+    /**
+     * Bu katalogda bulunmayan anahtarları verilen varsayılanlarla ekleyerek yeni bir katalog oluşturur.
+     * Katalogda zaten bulunan anahtarların değerleri değiştirilmez.
+     * @param defaults Noktalı anahtarlara göre varsayılan metinler.
+     * @return Eksik anahtar yoksa bu katalog, varsa genişletilmiş yeni bir katalog.
+     */
+    public MessageCatalog withDefaults(Map<String, String> defaults) {
+        return merge(defaults);
+    }
+
+    /**
+     * Bu katalogda bulunmayan anahtarları, bir geri düşüş (fallback) katalogundan alarak yeni bir katalog oluşturur.
+     * Böylece bir dil zinciri yükleme anında tek bir düz katalogda birleştirilir.
+     * @param fallback Eksik anahtarların alınacağı katalog.
+     * @return Eksik anahtar yoksa bu katalog, varsa birleştirilmiş yeni bir katalog.
+     */
+    public MessageCatalog withFallback(MessageCatalog fallback) {
+        return merge(fallback.values);
+    }
+
+    private MessageCatalog merge(Map<String, ?> fallback) {
+        Map<String, Object> merged = null;
+        for (Map.Entry<String, ?> entry : fallback.entrySet()) {
+            if (!values.containsKey(entry.getKey())) {
+                if (merged == null) {
+                    merged = new HashMap<>(values);
+                }
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return merged != null ? new MessageCatalog(merged) : this;
+    }
+
+    /**
+     * Anahtarları, metin değerlerini ve liste satırlarını verilen havuzdaki tek örneklerle değiştirerek
+     * yeni bir katalog oluşturur. Farklı dil dosyalarında ve arayüzlerde tekrarlanan metinler böylece
+     * bellekte bir kez tutulur.
+     * @param pool Kullanılacak metin havuzu.
+     * @return Havuzlanmış metinlerden oluşan katalog.
+     */
+    public MessageCatalog interned(StringPool pool) {
+        Map<String, Object> pooled = new HashMap<>(Math.max(16, values.size() * 4 / 3 + 1));
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof List) {
+                List<?> lines = (List<?>) value;
+                List<String> pooledLines = new ArrayList<>(lines.size());
+                for (Object line : lines) {
+                    pooledLines.add(pool.intern((String) line));
+                }
+                value = Collections.unmodifiableList(pooledLines);
+            } else {
+                value = pool.intern((String) value);
+            }
+            pooled.put(pool.intern(entry.getKey()), value);
+        }
+        return new MessageCatalog(pooled);
+    }
+
+    /**
+     * Bir anahtarın metin değerini döndürür. Liste değerleri için listenin metin hali döndürülür.
+     * @param key Noktalı tam anahtar.
+     * @param defaultValue Anahtar yoksa döndürülecek değer.
+     * @return Metin değeri veya varsayılan değer.
+     */
+    public String getString(String key, String defaultValue) {
+        Object value = values.get(key);
+        return value != null ? value.toString() : defaultValue;
+    }
+
+    /**
+     * Bir anahtarın liste değerini döndürür.
+     * @param key Noktalı tam anahtar.
+     * @return Değişmez satır listesi; anahtar yoksa veya değer bir liste değilse boş liste.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getLines(String key) {
+        Object value = values.get(key);
+        return value instanceof List ? (List<String>) value : Collections.emptyList();
+    }
+
+    /**
+     * @param key Noktalı tam anahtar.
+     * @return Anahtar katalogda varsa true.
+     */
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * @return Katalogdaki tüm anahtar-değer çiftlerinin değişmez görünümü.
+     */
+    public Map<String, Object> asMap() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @return Katalogdaki mesaj sayısı.
+     */
+    public int size() {
+        return values.size();
+    }
+}
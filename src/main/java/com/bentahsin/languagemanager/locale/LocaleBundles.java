@@ -0,0 +1,178 @@
+package com.bentahsin.languagemanager.locale;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dil koduna göre tembel (lazy) yüklenen ve kullanılmadığında bellekten atılan dil paketleri önbelleği.
+ * <p>
+ * Varsayılan dilin paketi her zaman bellekte tutulur. Diğer diller ilk istendiklerinde arka plandaki
+ * bir {@link Executor} üzerinde yüklenir; yükleme sürerken varsayılan paket döndürülür, böylece
+ * çağıran thread (genellikle ana sunucu thread'i) hiçbir zaman beklemez. Yüklenmiş bir dil için
+ * erişim tek bir {@link ConcurrentHashMap} okumasıdır.
+ * <p>
+ * {@link #evictIdle()} düzenli olarak çağrılarak belirli bir süredir kullanılmayan diller ve
+ * azami paket sayısını aşan en eski diller bellekten atılır.
+ *
+ * @param <V> Bir dil paketinin tipi.
+ */
+public final class LocaleBundles<V> {
+
+    private final String defaultLocale;
+    private final Function<String, V> loader;
+    private final Executor executor;
+    private final int maxLoadedLocales;
+    private final long idleNanos;
+    private final Logger logger;
+    private final ConcurrentHashMap<String, Slot<V>> slots = new ConcurrentHashMap<>();
+    private volatile V defaultBundle;
+
+    /**
+     * @param defaultLocale Her zaman bellekte tutulan varsayılan dil kodu.
+     * @param loader Bir dil kodu için paketi yükleyen fonksiyon; dile ait dosya yoksa null döndürmelidir.
+     * @param executor Yüklemelerin yapılacağı arka plan executor'ı.
+     * @param maxLoadedLocales Varsayılan dil dışında aynı anda bellekte tutulabilecek azami dil sayısı.
+     * @param idleMillis Bir dilin kullanılmadan bellekte kalabileceği azami süre (milisaniye).
+     * @param logger Yükleme hatalarının yazılacağı logger.
+     */
+    public LocaleBundles(String defaultLocale, Function<String, V> loader, Executor executor, int maxLoadedLocales, long idleMillis, Logger logger) {
+        this.defaultLocale = Locales.normalize(defaultLocale);
+        this.loader = loader;
+        this.executor = executor;
+        this.maxLoadedLocales = maxLoadedLocales;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+        this.logger = logger;
+    }
+
+    /**
+     * Verilen dil koduna ait paketi döndürür.
+     * Dil henüz yüklenmemişse arka planda yüklenmesi başlatılır ve bu sırada varsayılan paket döndürülür.
+     * @param locale Normalleştirilmiş dil kodu (null ise varsayılan paket).
+     * @return Dil paketi; hiçbir zaman beklemeye neden olmaz.
+     */
+    public V get(String locale) {
+        V fallback = defaultBundle;
+        if (locale == null || locale.equals(defaultLocale)) {
+            return fallback;
+        }
+        Slot<V> slot = slots.get(locale);
+        if (slot == null) {
+            requestLoad(locale);
+            return fallback;
+        }
+        slot.lastAccess = System.nanoTime();
+        V value = slot.value;
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * @return Varsayılan dilin paketi.
+     */
+    public V getDefault() {
+        return defaultBundle;
+    }
+
+    /**
+     * Varsayılan dilin paketini ayarlar.
+     * @param bundle Yeni varsayılan paket.
+     */
+    public void setDefault(V bundle) {
+        this.defaultBundle = bundle;
+    }
+
+    /**
+     * Takip edilen tüm dillerin arka plandaki executor üzerinde yeniden yüklenmesini başlatır ve beklemeden
+     * döner. Dosyası bulunmadığı için varsayılan pakete düşen diller de yeniden okunur; böylece sonradan
+     * eklenen bir dosya da görülür. Her dil yeniden yüklenene kadar eski paketi kullanılmaya devam eder.
+     * Varsayılan paket bu metottan etkilenmez; {@link #setDefault} ile çağıran tarafından ayarlanır.
+     */
+    public void reloadLoaded() {
+        for (Map.Entry<String, Slot<V>> entry : slots.entrySet()) {
+            String locale = entry.getKey();
+            Slot<V> slot = entry.getValue();
+            executor.execute(() -> fill(locale, slot));
+        }
+    }
+
+    /**
+     * @return Varsayılan dil dışında şu anda takip edilen dil kodları; dosyası bulunmayan
+     * (varsayılan dile düşen) ve yüklenmekte olan diller de dahildir.
+     */
+    public List<String> loadedLocales() {
+        return new ArrayList<>(slots.keySet());
+    }
+
+    /**
+     * Önceden hazırlanmış paketleri yayınlar. Her paket tek bir volatile yazma ile değiştirilir;
+     * okuyucular bir paketi ya tamamen eski ya da tamamen yeni haliyle görür.
+     * Bu arada bellekten atılmış dillerin paketleri yok sayılır.
+     * @param bundle Yeni varsayılan paket.
+     * @param locales Dil koduna göre yeni paketler; null değer, dilin varsayılan pakete düşeceği anlamına gelir.
+     */
+    public void publish(V bundle, Map<String, V> locales) {
+        for (Map.Entry<String, V> entry : locales.entrySet()) {
+            Slot<V> slot = slots.get(entry.getKey());
+            if (slot != null) {
+                slot.value = entry.getValue();
+            }
+        }
+        this.defaultBundle = bundle;
+    }
+
+    /**
+     * Boşta kalma süresini aşan dilleri ve azami sayıyı aşan en eski dilleri bellekten atar.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        slots.entrySet().removeIf(entry -> now - entry.getValue().lastAccess > idleNanos);
+
+        int excess = slots.size() - maxLoadedLocales;
+        if (excess <= 0) {
+            return;
+        }
+        List<Map.Entry<String, Slot<V>>> entries = new ArrayList<>(slots.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        for (int i = 0; i < excess && i < entries.size(); i++) {
+            slots.remove(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+    }
+
+    /**
+     * @return Varsayılan dil dışında şu anda bellekte bulunan dil sayısı.
+     */
+    public int loadedCount() {
+        return slots.size();
+    }
+
+    private void requestLoad(String locale) {
+        Slot<V> slot = new Slot<>();
+        if (slots.putIfAbsent(locale, slot) == null) {
+            executor.execute(() -> fill(locale, slot));
+        }
+    }
+
+    private void fill(String locale, Slot<V> slot) {
+        try {
+            slot.value = loader.apply(locale);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "[LanguageManager] Could not load locale " + locale, e);
+        }
+    }
+
+    /**
+     * Tek bir dilin yüklenme durumu. Değer null ise dil ya hâlâ yükleniyordur
+     * ya da bu dile ait bir dosya yoktur; her iki durumda da varsayılan paket kullanılır.
+     */
+    private static final class Slot<V> {
+        private volatile V value;
+        private volatile long lastAccess = System.nanoTime();
+    }
+}
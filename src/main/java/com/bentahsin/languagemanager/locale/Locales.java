@@ -0,0 +1,109 @@
+package com.bentahsin.languagemanager.locale;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Oyuncu dil kodlarının (locale) çözümlenmesi ve normalleştirilmesi için yardımcı sınıf.
+ */
+public final class Locales {
+
+    private static final ThreadLocal<String> OVERRIDE = new ThreadLocal<>();
+
+    /**
+     * Bu sınıfın bir örneğinin oluşturulmasını engellemek için private constructor.
+     */
+    private Locales() {
+    }
+
+    /**
+     * Bir dil kodunu karşılaştırma için normalleştirir.
+     * Örn: "en_US" ve "en-us" değerleri "en_us" olur.
+     * @param locale Ham dil kodu (null olabilir).
+     * @return Küçük harfli ve alt çizgili dil kodu; girdi boşsa null.
+     */
+    public static String normalize(String locale) {
+        if (locale == null || locale.isEmpty()) {
+            return null;
+        }
+        return locale.replace('-', '_').toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Bir dil kodunu, sayı ve tarih biçimlendirmesinde kullanılacak {@link Locale} nesnesine çevirir.
+     * Örn: "pt_br" için pt-BR.
+     * @param locale Ham veya normalleştirilmiş dil kodu (null olabilir).
+     * @return Karşılık gelen Locale; girdi boşsa {@link Locale#ROOT}.
+     */
+    public static Locale toLocale(String locale) {
+        String normalized = normalize(locale);
+        return normalized == null ? Locale.ROOT : Locale.forLanguageTag(normalized.replace('_', '-'));
+    }
+
+    /**
+     * Bir oyuncunun istemcisinde seçili dil kodunu döndürür.
+     * @param player Oyuncu (null olabilir).
+     * @return Normalleştirilmiş dil kodu; oyuncu çevrimiçi değilse null.
+     */
+    public static String of(OfflinePlayer player) {
+        if (player instanceof Player) {
+            return normalize(((Player) player).getLocale());
+        }
+        if (player != null && player.isOnline()) {
+            Player online = player.getPlayer();
+            return online == null ? null : normalize(online.getLocale());
+        }
+        return null;
+    }
+
+    /**
+     * Bir dil kodu için sırasıyla denenecek dosya dil kodlarını döndürür.
+     * Örn: "pt_br" için ["pt_br", "pt"].
+     * @param locale Normalleştirilmiş dil kodu.
+     * @return Denenecek dil kodları, en özelden en genele.
+     */
+    public static List<String> candidates(String locale) {
+        List<String> candidates = new ArrayList<>(2);
+        candidates.add(locale);
+        int separator = locale.indexOf('_');
+        if (separator > 0) {
+            candidates.add(locale.substring(0, separator));
+        }
+        return candidates;
+    }
+
+    /**
+     * Verilen işlemi, bu thread'de yapılan tüm mesaj çağrılarının belirtilen dilde işleneceği
+     * şekilde çalıştırır. Metodun oyuncu parametresinden çözülen dil yok sayılır.
+     * Toplu gönderimde her dil grubu için mesajı bir kez işlemek amacıyla kullanılır.
+     * @param locale Normalleştirilmiş dil kodu.
+     * @param action Çalıştırılacak işlem.
+     * @param <R> İşlemin sonuç tipi.
+     * @return İşlemin sonucu.
+     */
+    public static <R> R withLocale(String locale, Supplier<R> action) {
+        String previous = OVERRIDE.get();
+        OVERRIDE.set(locale);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                OVERRIDE.remove();
+            } else {
+                OVERRIDE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return withLocale ile bu thread için zorlanan dil kodu; yoksa null.
+     */
+    public static String override() {
+        return OVERRIDE.get();
+    }
+}
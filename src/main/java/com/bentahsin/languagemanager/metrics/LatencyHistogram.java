@@ -0,0 +1,64 @@
+package com.bentahsin.languagemanager.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Kilitsiz, ikinin kuvvetleri şeklinde kovalanmış (log2) gecikme histogramı.
+ * <p>
+ * Her kova ayrı bir {@link LongAdder} olduğundan, farklı thread'lerden gelen kayıtlar aynı
+ * önbellek satırı için yarışmaz. Bir kayıt yalnızca bir kova hesaplaması ve iki toplamadan ibarettir;
+ * yüzdelik değerler kova üst sınırları ile (en fazla 2 kat hata payıyla) hesaplanır.
+ */
+final class LatencyHistogram {
+
+    /**
+     * Kova sayısı; son kova 2^38 ns (yaklaşık 4,5 dakika) ve üzerini kapsar.
+     */
+    static final int BUCKETS = 40;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param nanos Kaydedilecek süre (nanosaniye).
+     */
+    void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucketOf(nanos)].increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * 0 değeri 0. kovaya, [2^(i-1), 2^i) aralığı i. kovaya düşer.
+     */
+    static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    long[] bucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    long maxNanos() {
+        return maxNanos.get();
+    }
+}
@@ -0,0 +1,79 @@
+package com.bentahsin.languagemanager.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tek bir mesaj arayüzünün canlı ölçümleri.
+ * <p>
+ * Her mesaj, gönderim kaydındaki sıra numarasıyla bir sayaç grubuna eşlenir; böylece kayıt sırasında
+ * hiçbir harita araması yapılmaz. Tüm sayaçlar {@link LongAdder} tabanlıdır ve çekişmesizdir.
+ * Metrikler kapalıyken işleyiciler bu sınıfın bir örneğini hiç oluşturmaz.
+ */
+public final class MessageMetrics {
+
+    private final String[] keys;
+    private final Counters[] counters;
+    private final LongAdder unresolvedCalls = new LongAdder();
+
+    MessageMetrics(String[] keys) {
+        this.keys = keys.clone();
+        this.counters = new Counters[keys.length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counters();
+        }
+    }
+
+    /**
+     * Bir mesajın işlenmesini ve süresini kaydeder.
+     * @param ordinal Mesajın sıra numarası.
+     * @param nanos İşleme süresi (nanosaniye).
+     */
+    public void recordRender(int ordinal, long nanos) {
+        Counters key = counters[ordinal];
+        key.invocations.increment();
+        key.latency.record(nanos);
+    }
+
+    /**
+     * Dil dosyasında bulunmadığı için varsayılan değeriyle işlenen bir mesajı kaydeder.
+     * @param ordinal Mesajın sıra numarası.
+     */
+    public void recordMissingKey(int ordinal) {
+        counters[ordinal].missingKeys.increment();
+    }
+
+    /**
+     * İstenen dil yerine varsayılan dilde (veya başka bir çeviride) işlenen bir mesajı kaydeder.
+     * @param ordinal Mesajın sıra numarası.
+     */
+    public void recordLocaleFallback(int ordinal) {
+        counters[ordinal].localeFallbacks.increment();
+    }
+
+    /**
+     * Karşılığı olmayan (anotasyonu veya çevirisi eksik) bir metot çağrısını kaydeder.
+     */
+    public void recordUnresolved() {
+        unresolvedCalls.increment();
+    }
+
+    MetricsSnapshot.InterfaceStats snapshot() {
+        Map<String, MetricsSnapshot.KeyStats> stats = new LinkedHashMap<>(keys.length * 4 / 3 + 1);
+        for (int i = 0; i < keys.length; i++) {
+            Counters key = counters[i];
+            stats.put(keys[i], new MetricsSnapshot.KeyStats(key.invocations.sum(), key.missingKeys.sum(), key.localeFallbacks.sum(),
+                    key.latency.totalNanos(), key.latency.maxNanos(), key.latency.bucketCounts()));
+        }
+        return new MetricsSnapshot.InterfaceStats(Collections.unmodifiableMap(stats), unresolvedCalls.sum());
+    }
+
+    private static final class Counters {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder missingKeys = new LongAdder();
+        private final LongAdder localeFallbacks = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
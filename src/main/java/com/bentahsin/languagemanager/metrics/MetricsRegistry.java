@@ -0,0 +1,45 @@
+package com.bentahsin.languagemanager.metrics;
+
+import com.bentahsin.languagemanager.util.PlaceholderCache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tüm mesaj arayüzlerinin ölçümlerini bir arada tutar.
+ * Yalnızca {@code LanguageManagerBuilder#withMetrics()} çağrıldığında oluşturulur.
+ */
+public final class MetricsRegistry {
+
+    private final Map<Class<?>, MessageMetrics> interfaces = new ConcurrentHashMap<>();
+
+    /**
+     * Bir arayüz için ölçüm kaydı oluşturur. Aynı arayüz yeniden kaydedilirse önceki ölçümler silinir.
+     * @param interfaceClass Mesaj arayüzü.
+     * @param keys Mesajların sıra numarasına göre anahtarları.
+     * @return Arayüzün canlı ölçümleri.
+     */
+    public MessageMetrics register(Class<?> interfaceClass, String[] keys) {
+        MessageMetrics metrics = new MessageMetrics(keys);
+        interfaces.put(interfaceClass, metrics);
+        return metrics;
+    }
+
+    /**
+     * Tüm sayaçların anlık bir kopyasını alır. Kayıtlar sürerken alınan kopya, thread'ler
+     * arasında küçük tutarsızlıklar içerebilir; ancak hiçbir zaman kayıt işlemini engellemez.
+     * @param papiCache Hit/miss sayıları rapora eklenecek PlaceholderAPI önbelleği (null olabilir).
+     * @return Değişmez ölçüm kopyası.
+     */
+    public MetricsSnapshot snapshot(PlaceholderCache papiCache) {
+        Map<Class<?>, MetricsSnapshot.InterfaceStats> stats = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, MessageMetrics> entry : interfaces.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return new MetricsSnapshot(Collections.unmodifiableMap(stats),
+                papiCache == null ? 0 : papiCache.getHits(),
+                papiCache == null ? 0 : papiCache.getMisses());
+    }
+}
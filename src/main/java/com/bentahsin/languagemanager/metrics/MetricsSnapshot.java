@@ -0,0 +1,160 @@
+package com.bentahsin.languagemanager.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Mesaj ölçümlerinin değişmez, anlık bir kopyası.
+ * İzleme sistemlerine aktarılmak üzere {@code LanguageManager#getMetrics()} ile alınır.
+ */
+public final class MetricsSnapshot {
+
+    private static final MetricsSnapshot EMPTY = new MetricsSnapshot(Collections.emptyMap(), 0, 0);
+
+    private final Map<Class<?>, InterfaceStats> interfaces;
+    private final long papiCacheHits;
+    private final long papiCacheMisses;
+
+    MetricsSnapshot(Map<Class<?>, InterfaceStats> interfaces, long papiCacheHits, long papiCacheMisses) {
+        this.interfaces = interfaces;
+        this.papiCacheHits = papiCacheHits;
+        this.papiCacheMisses = papiCacheMisses;
+    }
+
+    /**
+     * @return Hiç ölçüm içermeyen kopya; metrikler kapalıyken döndürülür.
+     */
+    public static MetricsSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return Arayüze göre ölçümler.
+     */
+    public Map<Class<?>, InterfaceStats> getInterfaces() {
+        return interfaces;
+    }
+
+    /**
+     * @return PlaceholderAPI önbelleğinden karşılanan placeholder sayısı.
+     */
+    public long getPapiCacheHits() {
+        return papiCacheHits;
+    }
+
+    /**
+     * @return PlaceholderAPI'ye gidilmesi gereken placeholder sayısı.
+     */
+    public long getPapiCacheMisses() {
+        return papiCacheMisses;
+    }
+
+    /**
+     * @return PlaceholderAPI önbelleğinin isabet oranı (0-1); hiç kayıt yoksa 0.
+     */
+    public double getPapiCacheHitRate() {
+        long total = papiCacheHits + papiCacheMisses;
+        return total == 0 ? 0 : (double) papiCacheHits / total;
+    }
+
+    /**
+     * Tek bir mesaj arayüzünün ölçümleri.
+     */
+    public static final class InterfaceStats {
+        private final Map<String, KeyStats> keys;
+        private final long unresolvedCalls;
+
+        InterfaceStats(Map<String, KeyStats> keys, long unresolvedCalls) {
+            this.keys = keys;
+            this.unresolvedCalls = unresolvedCalls;
+        }
+
+        /**
+         * @return Mesaj anahtarına göre ölçümler (sistem mesajlarında metot adı).
+         */
+        public Map<String, KeyStats> getKeys() { return keys; }
+
+        /**
+         * @return Karşılığı olmayan metot çağrılarının sayısı.
+         */
+        public long getUnresolvedCalls() { return unresolvedCalls; }
+    }
+
+    /**
+     * Tek bir mesajın ölçümleri.
+     */
+    public static final class KeyStats {
+        private final long invocations;
+        private final long missingKeys;
+        private final long localeFallbacks;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] buckets;
+
+        KeyStats(long invocations, long missingKeys, long localeFallbacks, long totalNanos, long maxNanos, long[] buckets) {
+            this.invocations = invocations;
+            this.missingKeys = missingKeys;
+            this.localeFallbacks = localeFallbacks;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        /**
+         * @return Mesajın kaç kez işlendiği.
+         */
+        public long getInvocations() { return invocations; }
+
+        /**
+         * @return Dil dosyasında bulunmadığı için varsayılan değerle işlenme sayısı.
+         */
+        public long getMissingKeys() { return missingKeys; }
+
+        /**
+         * @return İstenen dil yerine başka bir dilde işlenme sayısı.
+         */
+        public long getLocaleFallbacks() { return localeFallbacks; }
+
+        /**
+         * @return Toplam işleme süresi (nanosaniye).
+         */
+        public long getTotalNanos() { return totalNanos; }
+
+        /**
+         * @return En uzun işleme süresi (nanosaniye).
+         */
+        public long getMaxNanos() { return maxNanos; }
+
+        /**
+         * @return Ortalama işleme süresi (nanosaniye); hiç kayıt yoksa 0.
+         */
+        public double getMeanNanos() {
+            return invocations == 0 ? 0 : (double) totalNanos / invocations;
+        }
+
+        /**
+         * Bir yüzdelik için yaklaşık işleme süresini döndürür.
+         * Değer, ilgili histogram kovasının üst sınırıdır (en fazla 2 kat yukarı yuvarlanır).
+         * @param percentile 0-100 arası yüzdelik, örn: 99.
+         * @return Yaklaşık süre (nanosaniye); hiç kayıt yoksa 0.
+         */
+        public long getPercentileNanos(double percentile) {
+            long count = 0;
+            for (long bucket : buckets) {
+                count += bucket;
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100.0);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(1, target)) {
+                    return i == 0 ? 0 : Math.min(maxNanos, 1L << i);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
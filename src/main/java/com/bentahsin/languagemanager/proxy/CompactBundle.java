@@ -0,0 +1,117 @@
+package com.bentahsin.languagemanager.proxy;
+
+import com.bentahsin.languagemanager.catalog.CompactCatalog;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Metinleri {@link CompactCatalog} tamponlarında bırakan ve mesajları ilk istendiklerinde derleyen dil paketi.
+ * <p>
+ * Her anahtarın hangi katalogda ve tamponun neresinde olduğu yükleme anında bir kez bulunur; paket bunun
+ * dışında yalnızca birkaç dizi ve sabit boyutlu bir sıcak önbellek tutar. Component döndüren mesajlar
+ * MiniMessage hazırlığı işleme yoluna düşmesin diye yükleme anında derlenip sabitlenir; önbelleğe yalnızca
+ * metin ve liste mesajları girer.
+ * <p>
+ * Önbellek {@value #WAYS} yollu küme ilişkilidir: her sıra numarası bir kümeye düşer ve küme içinde en son
+ * kullanılan mesaj öne alınır, yer açmak gerektiğinde en uzun süredir kullanılmayan atılır. Küme içeriği
+ * değişmez {@link Slot} nesnelerinden oluşur; iki thread aynı kümeyi aynı anda güncellerse bir mesaj
+ * önbellekten düşebilir veya iki kez yer alabilir, ancak her zaman doğru mesaj döndürülür. Bu nedenle kilit
+ * kullanılmaz. Önbellekten düşen bir mesaj tekrar istendiğinde tampondan yeniden çözülür.
+ */
+final class CompactBundle extends MessageBundle {
+
+    private static final int WAYS = 4;
+
+    private final MessageMethod[] methods;
+    private final CompactCatalog[] catalogs;
+    private final int[] catalogOf;
+    private final int[] entryOf;
+    private final BiFunction<MessageMethod, Object, CompiledMessage> compiler;
+    private final CompiledMessage[] pinned;
+    private final Slot[] hot;
+    private final int ways;
+
+    /**
+     * @param methods Gönderim kaydının sırasına göre metotlar.
+     * @param catalogs Dil zincirindeki kataloglar, en özelden en genele.
+     * @param hotCacheSize Derlenmiş olarak tutulacak azami metin ve liste mesajı sayısı.
+     * @param compiler Bir metodu, katalogdaki değeri (metin, liste veya anahtar yoksa null) ile derleyen fonksiyon.
+     *                 İşleme yolunda çağrıldığı için ortak bir kilit almamalıdır.
+     */
+    CompactBundle(MessageMethod[] methods, List<CompactCatalog> catalogs, int hotCacheSize,
+                  BiFunction<MessageMethod, Object, CompiledMessage> compiler) {
+        this.methods = methods;
+        this.catalogs = catalogs.toArray(new CompactCatalog[0]);
+        this.catalogOf = new int[methods.length];
+        this.entryOf = new int[methods.length];
+        this.compiler = compiler;
+        this.pinned = new CompiledMessage[methods.length];
+        int cached = 0;
+        for (MessageMethod method : methods) {
+            catalogOf[method.ordinal()] = -1;
+            for (int c = 0; c < this.catalogs.length; c++) {
+                int entry = this.catalogs[c].find(method.key());
+                if (entry >= 0) {
+                    catalogOf[method.ordinal()] = c;
+                    entryOf[method.ordinal()] = entry;
+                    break;
+                }
+            }
+            if (method.kind() == OutputKind.COMPONENT) {
+                pinned[method.ordinal()] = decode(method.ordinal());
+            } else {
+                cached++;
+            }
+        }
+        int limit = Math.max(1, Math.min(hotCacheSize, cached));
+        int size = Integer.highestOneBit(limit);
+        if (size < limit) {
+            size <<= 1;
+        }
+        this.ways = Math.min(WAYS, size);
+        this.hot = new Slot[size];
+    }
+
+    @Override
+    CompiledMessage message(int ordinal) {
+        CompiledMessage message = pinned[ordinal];
+        if (message != null) {
+            return message;
+        }
+        int base = (ordinal * ways) & (hot.length - 1);
+        for (int way = 0; way < ways; way++) {
+            Slot slot = hot[base + way];
+            if (slot == null) {
+                break;
+            }
+            if (slot.ordinal == ordinal) {
+                if (way > 0) {
+                    System.arraycopy(hot, base, hot, base + 1, way);
+                    hot[base] = slot;
+                }
+                return slot.message;
+            }
+        }
+        message = decode(ordinal);
+        System.arraycopy(hot, base, hot, base + 1, ways - 1);
+        hot[base] = new Slot(ordinal, message);
+        return message;
+    }
+
+    private CompiledMessage decode(int ordinal) {
+        int catalog = catalogOf[ordinal];
+        Object value = catalog < 0 ? null : catalogs[catalog].value(entryOf[ordinal]);
+        return compiler.apply(methods[ordinal], value);
+    }
+
+    private static final class Slot {
+        final int ordinal;
+        final CompiledMessage message;
+
+        Slot(int ordinal, CompiledMessage message) {
+            this.ordinal = ordinal;
+            this.message = message;
+        }
+    }
+}
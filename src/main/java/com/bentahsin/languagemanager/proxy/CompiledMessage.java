@@ -0,0 +1,63 @@
+package com.bentahsin.languagemanager.proxy;
+
+import com.bentahsin.languagemanager.util.ComponentTemplate;
+import com.bentahsin.languagemanager.util.MessageTemplate;
+import com.bentahsin.languagemanager.util.PlaceholderUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Bir dildeki tek bir mesajın yükleme anında hazırlanmış hali.
+ * Metin ve liste çıktıları için satır şablonlarını, Component çıktıları için
+ * MiniMessage'a hazırlanmış şablonu tutar. Mesajın PlaceholderAPI placeholder'ı içerip
+ * içermediği de burada bir kez belirlenir; içermeyen mesajlar için PlaceholderAPI hiç çağrılmaz.
+ * Anahtar dil dosyasında yoksa ve varsayılan değer kullanıldıysa bu da işaretlenir.
+ * Hiç parametre yuvası içermeyen liste mesajlarının sonucu bir kez üretilip değişmez bir liste olarak tutulur.
+ * Biçimli placeholder'ların (sayı, para, tarih, çoğul) biçimlendirileceği dil de mesajla birlikte tutulur.
+ */
+final class CompiledMessage {
+
+    private final MessageTemplate[] lines;
+    private final ComponentTemplate component;
+    private final boolean usesPapi;
+    private final boolean missingKey;
+    private final List<String> constantLines;
+    private final Locale locale;
+
+    CompiledMessage(MessageTemplate[] lines, ComponentTemplate component, boolean missingKey, Locale locale) {
+        this.lines = lines;
+        this.component = component;
+        this.missingKey = missingKey;
+        this.locale = locale;
+        boolean papi = false;
+        for (MessageTemplate line : lines) {
+            if (PlaceholderUtil.containsPapiPlaceholders(line.getSource())) {
+                papi = true;
+                break;
+            }
+        }
+        this.usesPapi = papi;
+        this.constantLines = component == null ? renderConstant(lines) : null;
+    }
+
+    private static List<String> renderConstant(MessageTemplate[] lines) {
+        String[] rendered = new String[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            if (!lines[i].isConstant()) {
+                return null;
+            }
+            rendered[i] = lines[i].render(null);
+        }
+        return Collections.unmodifiableList(Arrays.asList(rendered));
+    }
+
+    MessageTemplate[] lines() { return lines; }
+    ComponentTemplate component() { return component; }
+    boolean usesPapi() { return usesPapi; }
+    boolean missingKey() { return missingKey; }
+    List<String> constantLines() { return constantLines; }
+    Locale locale() { return locale; }
+}
@@ -0,0 +1,87 @@
+package com.bentahsin.languagemanager.proxy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Derleme zamanında üretilen mesaj arayüzü implementasyonlarını bulan ve bağlayan yardımcı sınıf.
+ * <p>
+ * LanguageManager-processor, @Messages ve @SystemMessages ile işaretli her arayüz için
+ * aynı pakette {@code LanguageManager_<ArayüzAdı>} isimli bir sınıf üretir. İç içe arayüzlerde
+ * dış sınıf isimleri alt çizgi ile birleştirilir (örn. {@code LanguageManager_Outer_Inner}).
+ */
+public final class GeneratedMessages {
+
+    /**
+     * Üretilen sınıf isimlerinin öneki.
+     */
+    public static final String CLASS_PREFIX = "LanguageManager_";
+
+    /**
+     * Bu sınıfın bir örneğinin oluşturulmasını engellemek için private constructor.
+     */
+    private GeneratedMessages() {
+    }
+
+    /**
+     * Bir arayüz için üretilmiş implementasyonun tam sınıf adını hesaplar.
+     * @param interfaceClass Mesaj arayüzü.
+     * @return Üretilmiş sınıfın tam adı.
+     */
+    public static String implementationName(Class<?> interfaceClass) {
+        String name = interfaceClass.getName();
+        int lastDot = name.lastIndexOf('.');
+        String packagePrefix = lastDot < 0 ? "" : name.substring(0, lastDot + 1);
+        String simpleBinaryName = name.substring(lastDot + 1).replace('$', '_');
+        return packagePrefix + CLASS_PREFIX + simpleBinaryName;
+    }
+
+    /**
+     * Arayüz için üretilmiş bir implementasyon varsa, onu verilen işleyiciye bağlayarak oluşturur.
+     * @param interfaceClass Mesaj arayüzü.
+     * @param dispatcher Çağrıları işleyecek işleyici.
+     * @param logger Hata durumunda uyarı yazılacak logger.
+     * @return Üretilmiş sınıfın örneği; sınıf yoksa veya oluşturulamazsa null.
+     */
+    public static Object instantiate(Class<?> interfaceClass, MessageDispatcher dispatcher, Logger logger) {
+        Class<?> implementation;
+        try {
+            implementation = Class.forName(implementationName(interfaceClass), true, interfaceClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+
+        if (!interfaceClass.isAssignableFrom(implementation)) {
+            logger.warning("[LanguageManager] " + implementation.getName() + " does not implement " + interfaceClass.getName() + ". Falling back to proxy.");
+            return null;
+        }
+
+        try {
+            Constructor<?> constructor = implementation.getConstructor(MessageDispatcher.class);
+            return constructor.newInstance(dispatcher);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.log(Level.WARNING, "[LanguageManager] Could not instantiate generated class " + implementation.getName() + ". Falling back to proxy.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Üretilen sınıfların kurucularında, bir arayüz metodunun sıra numarasını çözmek için kullanılır.
+     * @param dispatcher Çağrıları işleyecek işleyici.
+     * @param declaringClass Metodu tanımlayan arayüz.
+     * @param name Metodun adı.
+     * @param parameterTypes Metodun parametre tipleri.
+     * @return Metodun işleyicideki sıra numarası; tanınmıyorsa -1.
+     */
+    public static int resolve(MessageDispatcher dispatcher, Class<?> declaringClass, String name, Class<?>... parameterTypes) {
+        Method method;
+        try {
+            method = declaringClass.getDeclaredMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Generated message class is out of date: " + declaringClass.getName() + "#" + name, e);
+        }
+        return dispatcher.ordinal(method);
+    }
+}
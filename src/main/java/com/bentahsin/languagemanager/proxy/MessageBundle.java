@@ -0,0 +1,38 @@
+package com.bentahsin.languagemanager.proxy;
+
+/**
+ * Bir arayüzün tek bir dildeki derlenmiş mesajları; metotların sıra numarasıyla erişilir.
+ * <p>
+ * Varsayılan gerçekleme, yükleme anında tamamen derlenmiş bir dizidir. Sıkıştırılmış depolama açıkken
+ * varsayılan dil dışındaki diller {@link CompactBundle} ile, mesajlar ilk istendiklerinde derlenerek tutulur.
+ * Gerçeklemeler herhangi bir thread'den eşzamanlı olarak okunabilmelidir.
+ */
+abstract class MessageBundle {
+
+    /**
+     * @param ordinal Metodun gönderim kaydındaki sıra numarası.
+     * @return Mesajın derlenmiş hali; hiçbir zaman null değildir.
+     */
+    abstract CompiledMessage message(int ordinal);
+
+    /**
+     * @param messages Gönderim kaydının sırasına göre derlenmiş mesajlar.
+     * @return Diziyi doğrudan okuyan paket.
+     */
+    static MessageBundle of(CompiledMessage[] messages) {
+        return new Compiled(messages);
+    }
+
+    private static final class Compiled extends MessageBundle {
+        private final CompiledMessage[] messages;
+
+        Compiled(CompiledMessage[] messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        CompiledMessage message(int ordinal) {
+            return messages[ordinal];
+        }
+    }
+}
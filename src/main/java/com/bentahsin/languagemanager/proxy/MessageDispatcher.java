@@ -0,0 +1,30 @@
+package com.bentahsin.languagemanager.proxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * Mesaj arayüzü çağrılarını, metot yerine önceden çözümlenmiş bir sıra numarası (ordinal)
+ * üzerinden işleyen sözleşme.
+ * <p>
+ * Hem JDK proxy'leri hem de derleme zamanında üretilen (annotation processor) arayüz
+ * implementasyonları aynı işleyiciye bu arayüz üzerinden bağlanır. Üretilen sınıflar
+ * sıra numaralarını oluşturulurken bir kez çözer ve her çağrıda doğrudan {@link #dispatch}
+ * metodunu kullanır.
+ */
+public interface MessageDispatcher {
+
+    /**
+     * Bir arayüz metodunun bu işleyicideki sıra numarasını döndürür.
+     * @param method Arayüz metodu.
+     * @return Sıra numarası; metot bu işleyici tarafından tanınmıyorsa -1.
+     */
+    int ordinal(Method method);
+
+    /**
+     * Sıra numarası verilen mesajı, argümanlarla işleyerek döndürür.
+     * @param ordinal {@link #ordinal(Method)} ile çözülmüş sıra numarası.
+     * @param args Metoda geçirilen argümanlar (null olabilir).
+     * @return Metodun dönüş tipine uygun işlenmiş mesaj.
+     */
+    Object dispatch(int ordinal, Object[] args);
+}
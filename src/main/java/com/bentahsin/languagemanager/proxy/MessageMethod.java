@@ -0,0 +1,89 @@
+package com.bentahsin.languagemanager.proxy;
+
+import com.bentahsin.languagemanager.annotations.Message;
+import com.bentahsin.languagemanager.locale.Locales;
+import org.bukkit.OfflinePlayer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * Bir @Message metodu için, proxy oluşturulurken bir kez hesaplanan değişmez gönderim kaydı.
+ * Çağrı anında anotasyon okuma, dönüş tipi karşılaştırma ve argüman taraması yapılmaz.
+ */
+final class MessageMethod {
+
+    private final int ordinal;
+    private final Method method;
+    private final String key;
+    private final String defaultValue;
+    private final OutputKind kind;
+    private final boolean usePrefix;
+    private final int playerIndex;
+    private final String[] parameterNames;
+
+    MessageMethod(int ordinal, Method method, Message messageInfo) {
+        this.ordinal = ordinal;
+        this.method = method;
+        this.key = messageInfo.key();
+        this.defaultValue = messageInfo.value();
+        this.kind = OutputKind.of(method.getReturnType());
+        this.usePrefix = messageInfo.usePrefix();
+        this.playerIndex = findPlayerParameter(method);
+        Parameter[] parameters = method.getParameters();
+        this.parameterNames = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            parameterNames[i] = parameters[i].getName();
+        }
+    }
+
+    /**
+     * Mesajın alıcısı kabul edilen ilk OfflinePlayer parametresinin sırasını bulur.
+     * Bu oyuncu hem PlaceholderAPI hem de oyuncuya özel dil seçimi için kullanılır.
+     * @param method İncelenecek metot.
+     * @return Parametre sırası; böyle bir parametre yoksa -1.
+     */
+    private static int findPlayerParameter(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (OfflinePlayer.class.isAssignableFrom(types[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Çağrı argümanları arasından alıcı oyuncuyu, önceden bilinen sırasıyla alır.
+     * @param args Metoda geçirilen argümanlar.
+     * @return Oyuncu; metodun oyuncu parametresi yoksa null.
+     */
+    OfflinePlayer player(Object[] args) {
+        if (playerIndex < 0 || args == null) {
+            return null;
+        }
+        return (OfflinePlayer) args[playerIndex];
+    }
+
+    /**
+     * Alıcı oyuncunun istemci dilini döndürür.
+     * Çağrı {@link Locales#withLocale} içinde yapılıyorsa zorlanan dil kullanılır.
+     * @param args Metoda geçirilen argümanlar.
+     * @return Normalleştirilmiş dil kodu; alıcı yoksa veya çevrimdışıysa null.
+     */
+    String locale(Object[] args) {
+        String forced = Locales.override();
+        if (forced != null) {
+            return forced;
+        }
+        return playerIndex < 0 ? null : Locales.of(player(args));
+    }
+
+    int ordinal() { return ordinal; }
+    Method method() { return method; }
+    String key() { return key; }
+    String defaultValue() { return defaultValue; }
+    OutputKind kind() { return kind; }
+    boolean usePrefix() { return usePrefix; }
+    String[] parameterNames() { return parameterNames; }
+}
@@ -1,48 +1,328 @@
 package com.bentahsin.languagemanager.proxy;
 
+import com.bentahsin.languagemanager.LanguageFileException;
 import com.bentahsin.languagemanager.LanguageManagerBuilder;
 import com.bentahsin.languagemanager.annotations.Message;
 import com.bentahsin.languagemanager.annotations.Messages;
-import com.bentahsin.languagemanager.util.PlaceholderUtil;
+import com.bentahsin.languagemanager.catalog.CompactCatalog;
+import com.bentahsin.languagemanager.catalog.MessageCatalog;
+import com.bentahsin.languagemanager.locale.LocaleBundles;
+import com.bentahsin.languagemanager.locale.Locales;
+import com.bentahsin.languagemanager.metrics.MessageMetrics;
+import com.bentahsin.languagemanager.util.ComponentTemplate;
+import com.bentahsin.languagemanager.util.MessageTemplate;
+import com.bentahsin.languagemanager.util.PlaceholderCache;
+import com.bentahsin.languagemanager.util.StringPool;
 import me.clip.placeholderapi.PlaceholderAPI;
-import net.kyori.adventure.text.Component;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Dosya tabanlı mesaj arayüzlerinin metot çağrılarını yakalayan ve işleyen proxy sınıfı.
  * Kütüphanenin dosya tabanlı modülünün beyni olarak çalışır.
+ * <p>
+ * <b>Thread güvenliği:</b> Mesaj metotları herhangi bir thread'den (async chat olayları, Netty
+ * işleyicileri, iş parçacığı havuzları) eşzamanlı olarak çağrılabilir. Her dil paketi, yükleme sırasında
+ * tamamen hazırlanan bir {@link MessageBundle}'dır ve yalnızca tek bir volatile
+ * yazma ile yayınlanır; bu yazma ile paketi okuyan çağrı arasında happens-before ilişkisi vardır.
+ * Bu nedenle bir çağrı, yeniden yükleme sürerken bile bir paketi ya tamamen eski ya da tamamen yeni
+ * haliyle görür. Prefix ayrı bir volatile alanda tutulur; yeniden yükleme ile aynı anda yapılan bir
+ * çağrıda prefix ve mesaj komşu iki yüklemeden gelebilir. PlaceholderAPI açıkken placeholder'ların
+ * thread güvenliği, ilgili PlaceholderAPI genişletmelerine bağlıdır. Sıkıştırılmış depolama açıkken
+ * varsayılan dil dışındaki paketler mesajları ilk kullanımda derler; bu derleme de kilitsiz ve thread-safe'dir.
  */
-public class MessageProxyHandler implements InvocationHandler {
+public class MessageProxyHandler implements InvocationHandler, MessageDispatcher {
 
     private final LanguageManagerBuilder builder;
     private final Class<?> interfaceClass;
-    private YamlConfiguration messages;
-    private String prefix;
+    private final Map<Method, MessageMethod> dispatchTable;
+    private final MessageMethod[] entries;
+    private final boolean papiHook;
+    private final PlaceholderCache papiCache;
+    private final boolean playerLocales;
+    private final LocaleBundles<MessageBundle> bundles;
+    private final MessageMetrics metrics;
+    private volatile String prefix;
 
     public MessageProxyHandler(LanguageManagerBuilder builder, Class<?> interfaceClass) {
         this.builder = builder;
         this.interfaceClass = interfaceClass;
+        this.dispatchTable = buildDispatchTable(interfaceClass);
+        this.entries = new MessageMethod[dispatchTable.size()];
+        for (MessageMethod entry : dispatchTable.values()) {
+            this.entries[entry.ordinal()] = entry;
+        }
+        this.papiHook = builder.isPapiHookEnabled();
+        this.papiCache = builder.getPapiCache();
+        this.playerLocales = builder.isPlayerLocalesEnabled();
+        this.bundles = new LocaleBundles<>(builder.getLocale(), this::loadLocale, builder.getLocaleExecutor(),
+                builder.getMaxLoadedLocales(), builder.getLocaleIdleMillis(), builder.getPlugin().getLogger());
+        this.metrics = builder.getMetrics() == null ? null : builder.getMetrics().register(interfaceClass, keysOf(entries));
         this.reloadConfig(builder);
     }
 
+    /**
+     * Arayüzdeki her @Message metodu için değişmez bir gönderim kaydı oluşturur.
+     * @param interfaceClass İşlenecek mesaj arayüzü.
+     * @return Metoda göre gönderim tablosu.
+     */
+    private static Map<Method, MessageMethod> buildDispatchTable(Class<?> interfaceClass) {
+        Map<Method, MessageMethod> table = new HashMap<>();
+        for (Method method : interfaceClass.getDeclaredMethods()) {
+            Message messageInfo = method.getAnnotation(Message.class);
+            if (messageInfo != null) {
+                table.put(method, new MessageMethod(table.size(), method, messageInfo));
+            }
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    private static String[] keysOf(MessageMethod[] entries) {
+        String[] keys = new String[entries.length];
+        for (MessageMethod entry : entries) {
+            keys[entry.ordinal()] = entry.key();
+        }
+        return keys;
+    }
+
     /**
      * Dil yapılandırmasını LanguageManagerBuilder'dan yeniden yükler.
-     * Bu metot, canlı yeniden yükleme (hot-reload) işlevselliği için kullanılır.
+     * Bu metot, canlı yeniden yükleme (hot-reload) işlevselliği için kullanılır. Varsayılan dil çağıran
+     * thread'de hemen yeniden yüklenir; bellekteki oyuncu dilleri ise dil yükleme executor'ına bırakılır ve
+     * yüklenene kadar eski paketleriyle işlenir.
      * @param builder Güncel LanguageManagerBuilder örneği.
      */
     public void reloadConfig(LanguageManagerBuilder builder) {
         Messages config = interfaceClass.getAnnotation(Messages.class);
-        this.messages = builder.loadOrUpdateMessagesFile(interfaceClass, config);
-        String rawPrefix = builder.getPrefix();
-        this.prefix = (rawPrefix != null && !rawPrefix.isEmpty()) ? ChatColor.translateAlternateColorCodes('&', rawPrefix) : "";
+        bundles.setDefault(MessageBundle.of(compileTemplates(builder.loadOrUpdateCatalog(interfaceClass, config), builder.getLocale())));
+        bundles.reloadLoaded();
+        this.prefix = translatePrefix(builder.getPrefix());
+    }
+
+    /**
+     * Varsayılan dilin ve bellekteki diğer dillerin dosyalarını okuyup derler, ancak yayınlamaz.
+     * Bu metot herhangi bir thread'de çağrılabilir; mevcut katalog {@link #publish(Snapshot)}
+     * çağrılana kadar değişmez.
+     * @param builder Güncel LanguageManagerBuilder örneği.
+     * @return Yayınlanmaya hazır yeni katalog.
+     * @throws LanguageFileException Dosyalardan biri okunamaz veya ayrıştırılamazsa.
+     */
+    public Snapshot loadSnapshot(LanguageManagerBuilder builder) throws LanguageFileException {
+        return loadSnapshot(builder, null);
+    }
+
+    /**
+     * loadSnapshot ile aynıdır, ancak yalnızca dil kodu verilen kümede bulunan dosyaları yeniden okur.
+     * Değişmeyen dillerin mevcut paketleri yeni katalogda aynen kullanılır.
+     * @param builder Güncel LanguageManagerBuilder örneği.
+     * @param changedLocales Değişen dosyaların normalleştirilmiş dil kodları; null ise tüm dosyalar okunur.
+     * @return Yayınlanmaya hazır yeni katalog.
+     * @throws LanguageFileException Dosyalardan biri okunamaz veya ayrıştırılamazsa.
+     */
+    public Snapshot loadSnapshot(LanguageManagerBuilder builder, Set<String> changedLocales) throws LanguageFileException {
+        Messages config = interfaceClass.getAnnotation(Messages.class);
+        MessageBundle defaults = bundles.getDefault();
+        if (changedLocales == null || !Collections.disjoint(changedLocales, builder.getFallbackChain(builder.getLocale(), config))) {
+            defaults = MessageBundle.of(compileTemplates(builder.readOrUpdateCatalog(interfaceClass, config), builder.getLocale()));
+        }
+
+        Map<String, MessageBundle> locales = new HashMap<>();
+        for (String locale : bundles.loadedLocales()) {
+            if (changedLocales == null || !Collections.disjoint(changedLocales, builder.getFallbackChain(locale, config))) {
+                locales.put(locale, readLocale(locale));
+            }
+        }
+        return new Snapshot(defaults, locales, translatePrefix(builder.getPrefix()));
+    }
+
+    /**
+     * loadSnapshot ile hazırlanmış katalogu yayınlar. Her dil paketi tek bir atomik yazma ile
+     * değiştirilir; okuyucular hiçbir zaman yarım yüklenmiş bir paket görmez.
+     * @param snapshot Yayınlanacak katalog.
+     */
+    public void publish(Snapshot snapshot) {
+        bundles.publish(snapshot.defaults, snapshot.locales);
+        this.prefix = snapshot.prefix;
+    }
+
+    /**
+     * @return Bu işleyicinin yönettiği mesaj arayüzü.
+     */
+    public Class<?> getInterfaceClass() {
+        return interfaceClass;
+    }
+
+    /**
+     * Bir @Message metoduna bağlı, son çıktısını saklayan bir mesaj tutucu oluşturur.
+     * @param method Arayüzdeki @Message metodu.
+     * @param <R> Metodun dönüş tipi.
+     * @return Yeni PreparedMessage.
+     * @throws IllegalArgumentException Metot bu arayüzün bir @Message metodu değilse.
+     */
+    public <R> PreparedMessage<R> prepare(Method method) {
+        MessageMethod entry = dispatchTable.get(method);
+        if (entry == null) {
+            throw new IllegalArgumentException(method + " is not a @Message method of " + interfaceClass.getName() + ".");
+        }
+        return new PreparedMessage<>(this, entry);
+    }
+
+    /**
+     * Argümanlara göre şu anda kullanılacak derlenmiş mesajı döndürür.
+     * Yeniden yüklemeden sonra farklı bir nesne döner; PreparedMessage değişikliği buradan anlar.
+     * Sıkıştırılmış bir paketin sıcak önbelleğinden düşüp yeniden derlenen mesajlar da yeni bir nesnedir.
+     */
+    CompiledMessage currentMessage(MessageMethod entry, Object[] args) {
+        return bundles.get(playerLocales ? entry.locale(args) : null).message(entry.ordinal());
+    }
+
+    /**
+     * Verilen dil için şu anda kullanılacak dil paketini döndürür. Aynı pakete düşen diller (örn. dosyası
+     * olmayan ve varsayılan dile düşen diller) için aynı nesne döner; toplu gönderimlerde alıcıları,
+     * mesajın gerçekte farklı işleneceği gruplara ayırmak için kullanılır.
+     * @param locale Normalleştirilmiş dil kodu (null ise varsayılan dil).
+     * @return Dil paketinin kimliği; yalnızca referans eşitliğiyle karşılaştırılmalıdır.
+     */
+    public Object bundleOf(String locale) {
+        return bundles.get(locale);
+    }
+
+    String currentPrefix() {
+        return prefix;
+    }
+
+    /**
+     * @return Mesajın çıktısı argümanlar aynı kalsa bile değişebiliyorsa (PlaceholderAPI) true.
+     */
+    boolean isVolatile(MessageMethod entry, CompiledMessage message, Object[] args) {
+        return papiHook && message.usesPapi() && entry.player(args) != null;
+    }
+
+    /**
+     * @return Bu arayüzün dil dosyalarının öneki.
+     */
+    public String getFilePrefix() {
+        return interfaceClass.getAnnotation(Messages.class).filePrefix();
+    }
+
+    private static String translatePrefix(String rawPrefix) {
+        return (rawPrefix != null && !rawPrefix.isEmpty()) ? ChatColor.translateAlternateColorCodes('&', rawPrefix) : "";
+    }
+
+    /**
+     * Varsayılan dil dışındaki bir dilin paketini yükler. Bu metot arka plandaki yükleyici
+     * thread'inde çağrılır ve yalnızca mevcut dosyaları okur; yeni dosya oluşturmaz.
+     * @param locale Normalleştirilmiş istemci dil kodu.
+     * @return Derlenmiş mesajlar; bu dile ait dosya yoksa null (varsayılan dil kullanılır).
+     */
+    private MessageBundle loadLocale(String locale) {
+        try {
+            return readLocale(locale);
+        } catch (LanguageFileException e) {
+            builder.getPlugin().getLogger().severe("[LanguageManager] An error occurred with language file: " + e.getFileName());
+            builder.getPlugin().getLogger().severe(e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    private MessageBundle readLocale(String locale) throws LanguageFileException {
+        Messages config = interfaceClass.getAnnotation(Messages.class);
+        if (builder.isCompactStorageEnabled()) {
+            List<CompactCatalog> catalogs = builder.readCompactLocaleCatalogs(interfaceClass, config, locale);
+            if (catalogs == null) {
+                return null;
+            }
+            Locale formatLocale = Locales.toLocale(locale);
+            return new CompactBundle(entries, catalogs, builder.getCompactHotCacheSize(),
+                    (entry, value) -> compile(entry, value, formatLocale, null));
+        }
+        MessageCatalog messages = builder.readLocaleCatalog(interfaceClass, config, locale);
+        return messages != null ? MessageBundle.of(compileTemplates(messages, locale)) : null;
+    }
+
+    /**
+     * Kullanılmayan dil paketlerini bellekten atar.
+     * Oyuncuya özel dil desteği açıkken LanguageManager tarafından düzenli olarak çağrılır.
+     */
+    public void evictIdleLocales() {
+        bundles.evictIdle();
+    }
+
+    /**
+     * @return Varsayılan dil dışında bu arayüz için şu anda bellekte tutulan veya yüklenmekte olan dil kodları.
+     */
+    public List<String> getLoadedLocales() {
+        return bundles.loadedLocales();
+    }
+
+    /**
+     * Düzleştirilmiş katalogdaki her mesajı, ait olduğu metodun parametrelerine göre bir kez derler.
+     * Liste döndüren metotlar için her satır ayrı bir şablon olarak derlenir;
+     * Component döndüren metotlar MiniMessage için önceden hazırlanır. Metin ve liste şablonlarının
+     * sabit parçalarındaki renk kodları burada bir kez çevrilir. Şablonlar builder'ın metin havuzundan
+     * alınır; aynı metin başka bir dilde veya arayüzde zaten derlendiyse o şablon paylaşılır.
+     * Sonuç, metotların sıra numarasıyla indekslenen bir dizidir.
+     * @param messages Düzleştirilmiş dil dosyası.
+     * @param locale Katalogun dil kodu; biçimli placeholder'lar bu dile göre biçimlendirilir.
+     * @return Gönderim kaydının sırasına göre derlenmiş mesajlar.
+     */
+    private CompiledMessage[] compileTemplates(MessageCatalog messages, String locale) {
+        Locale formatLocale = Locales.toLocale(locale);
+        StringPool pool = builder.getStringPool();
+        Map<String, Object> values = messages.asMap();
+        CompiledMessage[] compiled = new CompiledMessage[entries.length];
+        for (MessageMethod entry : entries) {
+            compiled[entry.ordinal()] = compile(entry, values.get(entry.key()), formatLocale, pool);
+        }
+        return compiled;
+    }
+
+    /**
+     * Tek bir mesajı, katalogdaki değeriyle derler.
+     * @param entry Mesajın gönderim kaydı.
+     * @param value Katalogdaki metin veya satır listesi; anahtar yoksa null (@Message değeri kullanılır).
+     * @param formatLocale Biçimli placeholder'ların biçimlendirileceği dil.
+     * @param pool Şablonların alınacağı metin havuzu; null ise şablonlar havuzun kilidi alınmadan,
+     *             paylaşılmadan derlenir (sıkıştırılmış paketlerin işleme yolunda kullanılır).
+     * @return Derlenmiş mesaj.
+     */
+    @SuppressWarnings("unchecked")
+    private CompiledMessage compile(MessageMethod entry, Object value, Locale formatLocale, StringPool pool) {
+        if (entry.kind() == OutputKind.LIST) {
+            List<String> lines = value instanceof List ? (List<String>) value : Collections.emptyList();
+            boolean missing = lines.isEmpty();
+            if (missing) {
+                lines = Collections.singletonList(entry.defaultValue());
+            }
+            MessageTemplate[] lineTemplates = new MessageTemplate[lines.size()];
+            for (int i = 0; i < lineTemplates.length; i++) {
+                lineTemplates[i] = template(pool, lines.get(i), entry.parameterNames(), true);
+            }
+            return new CompiledMessage(lineTemplates, null, missing, formatLocale);
+        }
+        String message = value != null ? value.toString() : entry.defaultValue();
+        boolean component = entry.kind() == OutputKind.COMPONENT;
+        MessageTemplate template = template(pool, message, entry.parameterNames(), !component);
+        ComponentTemplate componentTemplate = component ? ComponentTemplate.compile(template, builder.getMiniMessage()) : null;
+        return new CompiledMessage(new MessageTemplate[]{template}, componentTemplate, value == null, formatLocale);
+    }
+
+    private static MessageTemplate template(StringPool pool, String message, String[] parameterNames, boolean colors) {
+        if (pool != null) {
+            return pool.template(message, parameterNames, colors);
+        }
+        MessageTemplate template = MessageTemplate.compile(message, parameterNames);
+        return colors ? template.withColors() : template;
     }
 
     @Override
@@ -51,72 +331,141 @@ public class MessageProxyHandler implements InvocationHandler {
             return method.invoke(this, args);
         }
 
-        Message messageInfo = method.getAnnotation(Message.class);
-        if (messageInfo == null) {
+        MessageMethod entry = dispatchTable.get(method);
+        if (entry == null) {
+            if (metrics != null) {
+                metrics.recordUnresolved();
+            }
             return "Invalid message method: " + method.getName();
         }
+        return render(entry, args);
+    }
 
-        Class<?> returnType = method.getReturnType();
-        String messageKey = messageInfo.key();
-        String defaultValue = messageInfo.value();
+    @Override
+    public int ordinal(Method method) {
+        MessageMethod entry = dispatchTable.get(method);
+        return entry == null ? -1 : entry.ordinal();
+    }
 
-        OfflinePlayer papiPlayer = null;
-        if (builder.isPapiHookEnabled() && args != null) {
-            for (Object arg : args) {
-                if (arg instanceof OfflinePlayer) {
-                    papiPlayer = (OfflinePlayer) arg;
-                    break;
-                }
+    @Override
+    public Object dispatch(int ordinal, Object[] args) {
+        if (ordinal < 0 || ordinal >= entries.length) {
+            if (metrics != null) {
+                metrics.recordUnresolved();
             }
+            return "Invalid message method ordinal: " + ordinal;
         }
+        return render(entries[ordinal], args);
+    }
 
-        if (returnType.equals(Component.class)) {
-            String message = messages.getString(messageKey, defaultValue);
-            String finalMessage = applyPlaceholders(message, method, args, papiPlayer);
-            return builder.getMiniMessage().deserialize(finalMessage);
+    /**
+     * Bir gönderim kaydına ait mesajı işler; metrikler açıksa süresini ve geri düşüşleri kaydeder.
+     * @param entry İşlenecek metodun gönderim kaydı.
+     * @param args Metoda geçirilen argümanlar.
+     * @return Metodun çıktı türüne uygun işlenmiş mesaj.
+     */
+    Object render(MessageMethod entry, Object[] args) {
+        if (metrics == null) {
+            return render(entry, args, bundles.get(playerLocales ? entry.locale(args) : null).message(entry.ordinal()));
         }
 
-        if (returnType.equals(List.class)) {
-            List<String> messageList = messages.getStringList(messageKey);
-            if (messageList.isEmpty()) {
-                messageList = Collections.singletonList(defaultValue);
-            }
-            OfflinePlayer finalPapiPlayer = papiPlayer;
-            return messageList.stream()
-                    .map(line -> applyPlaceholdersAndColor(line, method, args, finalPapiPlayer))
-                    .collect(Collectors.toList());
+        long start = System.nanoTime();
+        String locale = playerLocales ? entry.locale(args) : null;
+        MessageBundle bundle = bundles.get(locale);
+        if (locale != null && bundle == bundles.getDefault() && !locale.equals(Locales.normalize(builder.getLocale()))) {
+            metrics.recordLocaleFallback(entry.ordinal());
+        }
+        CompiledMessage message = bundle.message(entry.ordinal());
+        if (message.missingKey()) {
+            metrics.recordMissingKey(entry.ordinal());
+        }
+        Object result = render(entry, args, message);
+        metrics.recordRender(entry.ordinal(), System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Bir gönderim kaydına ait mesajı, verilen derlenmiş mesaj ve argümanlarla işler.
+     */
+    private Object render(MessageMethod entry, Object[] args, CompiledMessage message) {
+        MessageTemplate[] compiled = message.lines();
+        OfflinePlayer papiPlayer = papiHook && message.usesPapi() ? entry.player(args) : null;
+
+        switch (entry.kind()) {
+            case COMPONENT:
+                if (papiPlayer == null) {
+                    return message.component().render(builder.getMiniMessage(), args, message.locale(), null);
+                }
+                return message.component().render(builder.getMiniMessage(), args, message.locale(), source -> setPapiPlaceholders(papiPlayer, source));
+            case LIST:
+                if (papiPlayer == null && message.constantLines() != null) {
+                    return message.constantLines();
+                }
+                List<String> lines = new ArrayList<>(compiled.length);
+                for (MessageTemplate line : compiled) {
+                    lines.add(applyPlaceholdersAndColor(line, args, message.locale(), papiPlayer));
+                }
+                return lines;
+            default:
+                String finalMessage = applyPlaceholdersAndColor(compiled[0], args, message.locale(), papiPlayer);
+                if (entry.usePrefix() && !this.prefix.isEmpty()) {
+                    return this.prefix + finalMessage;
+                }
+                return finalMessage;
         }
+    }
 
-        String message = messages.getString(messageKey, defaultValue);
-        String finalMessage = applyPlaceholdersAndColor(message, method, args, papiPlayer);
+    /**
+     * Bir arayüzün, henüz yayınlanmamış ve değişmez yeni katalogu.
+     */
+    public static final class Snapshot {
+        private final MessageBundle defaults;
+        private final Map<String, MessageBundle> locales;
+        private final String prefix;
 
-        if (messageInfo.usePrefix() && !this.prefix.isEmpty()) {
-            return this.prefix + finalMessage;
+        private Snapshot(MessageBundle defaults, Map<String, MessageBundle> locales, String prefix) {
+            this.defaults = defaults;
+            this.locales = locales;
+            this.prefix = prefix;
         }
-        return finalMessage;
     }
 
     /**
      * Bir metin satırına hem iç placeholder'ları hem de PlaceholderAPI placeholder'larını uygular.
      */
-    private String applyPlaceholders(String message, Method method, Object[] args, OfflinePlayer papiPlayer) {
-        String result = PlaceholderUtil.applyInternalPlaceholders(message, method, args);
-        if (builder.isPapiHookEnabled() && papiPlayer != null) {
-            result = PlaceholderAPI.setPlaceholders(papiPlayer, result);
+    private String applyPlaceholders(MessageTemplate template, Object[] args, Locale locale, OfflinePlayer papiPlayer) {
+        String result = template.render(args, locale);
+        if (papiPlayer != null) {
+            result = setPapiPlaceholders(papiPlayer, result);
         }
         return result;
     }
 
     /**
-     * applyPlaceholders metodunu çağırır ve ardından Bukkit renk kodlarını uygular.
-     * @param message İşlenecek ham metin.
-     * @param method Çağrılan arayüz metodu.
+     * PlaceholderAPI placeholder'larını, önbellek açıksa önbellek üzerinden işler.
+     */
+    private String setPapiPlaceholders(OfflinePlayer papiPlayer, String text) {
+        if (papiCache != null) {
+            return papiCache.apply(papiPlayer, text);
+        }
+        return PlaceholderAPI.setPlaceholders(papiPlayer, text);
+    }
+
+    /**
+     * applyPlaceholders metodunu çağırır ve sonucun renk kodlarının çevrilmiş olmasını sağlar.
+     * Şablonun sabit parçaları yüklemede, argümanlar render sırasında çevrildiğinden; tüm metin
+     * yalnızca PlaceholderAPI'nin eklediği değerler için yeniden taranır.
+     * @param template İşlenecek, renkleri çevrilmiş derlenmiş şablon.
      * @param args Metoda geçirilen argümanlar.
+     * @param locale Biçimli placeholder'ların biçimlendirileceği dil.
      * @param papiPlayer PlaceholderAPI için kullanılacak oyuncu (null olabilir).
      * @return İşlenmiş ve renklendirilmiş son metin.
      */
-    private String applyPlaceholdersAndColor(String message, Method method, Object[] args, OfflinePlayer papiPlayer) {
-        String processedMessage = applyPlaceholders(message, method, args, papiPlayer);
+    private String applyPlaceholdersAndColor(MessageTemplate template, Object[] args, Locale locale, OfflinePlayer papiPlayer) {
+        String processedMessage = applyPlaceholders(template, args, locale, papiPlayer);
+        if (papiPlayer == null) {
+            return processedMessage;
+        }
         return ChatColor.translateAlternateColorCodes('&', processedMessage);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.bentahsin.languagemanager.proxy;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.List;
+
+/**
+ * Bir mesaj metodunun dönüş tipine göre üreteceği çıktı türü.
+ */
+public enum OutputKind {
+    /**
+     * Renk kodları çevrilmiş düz metin.
+     */
+    STRING,
+
+    /**
+     * Her satırı ayrı ayrı işlenmiş metin listesi.
+     */
+    LIST,
+
+    /**
+     * MiniMessage ile ayrıştırılmış Adventure bileşeni.
+     */
+    COMPONENT;
+
+    /**
+     * Bir metodun dönüş tipine karşılık gelen çıktı türünü belirler.
+     * @param returnType Metodun dönüş tipi.
+     * @return Karşılık gelen çıktı türü; tanınmayan tipler için STRING.
+     */
+    public static OutputKind of(Class<?> returnType) {
+        if (returnType.equals(Component.class)) {
+            return COMPONENT;
+        }
+        if (returnType.equals(List.class)) {
+            return LIST;
+        }
+        return STRING;
+    }
+}
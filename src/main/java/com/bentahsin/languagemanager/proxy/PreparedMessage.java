@@ -0,0 +1,165 @@
+package com.bentahsin.languagemanager.proxy;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Tek bir @Message metoduna bağlı, son çıktısını saklayan mesaj tutucu.
+ * <p>
+ * Skor tabloları, boss bar'lar ve action bar'lar gibi her tick yenilenen göstergeler için tasarlanmıştır.
+ * {@link #render(Object...)} yalnızca argümanlardan biri değiştiğinde (equals ile karşılaştırılır) veya
+ * mesajın katalogu yeniden yüklendiğinde (dil dosyası, oyuncu dili veya prefix değiştiğinde) mesajı
+ * yeniden işler; aksi halde son çıktıyı hiçbir nesne oluşturmadan döndürür.
+ * <p>
+ * PlaceholderAPI placeholder'ı içeren ve bir oyuncu argümanı alan mesajlar, placeholder değerleri
+ * argümanlardan bağımsız değişebildiği için her çağrıda yeniden işlenir; bu mesajlar için
+ * {@code withPapiCache} ile birlikte kullanılması önerilir.
+ * <p>
+ * Saklanan çıktı çağıranlar arasında paylaşıldığından, dönen listeler değiştirilmemelidir.
+ * <p>
+ * Örnekler thread'ler arasında güvenle paylaşılabilir; ancak her gösterge (örn. her oyuncunun skor
+ * tablosu satırı) için ayrı bir örnek kullanılması, önbelleğin etkili olması için gereklidir.
+ *
+ * @param <R> Metodun dönüş tipi.
+ */
+public final class PreparedMessage<R> {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final MessageProxyHandler handler;
+    private final MessageMethod entry;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] argumentTypes;
+    private volatile State state;
+
+    PreparedMessage(MessageProxyHandler handler, MessageMethod entry) {
+        this.handler = handler;
+        this.entry = entry;
+        this.parameterTypes = entry.method().getParameterTypes();
+        this.argumentTypes = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            argumentTypes[i] = wrap(parameterTypes[i]);
+        }
+    }
+
+    /**
+     * Mesajı verilen argümanlarla döndürür; hiçbir şey değişmediyse son çıktı yeniden kullanılır.
+     * @param args Metodun argümanları, tanım sırasıyla.
+     * @return İşlenmiş mesaj.
+     * @throws IllegalArgumentException Argüman sayısı veya tipleri metodun parametreleriyle uyuşmuyorsa.
+     */
+    public R render(Object... args) {
+        return update(args).result;
+    }
+
+    /**
+     * render ile aynıdır, ancak çıktı son çağrıdakiyle aynıysa null döndürür.
+     * Göstergenin yalnızca değişiklik olduğunda oyuncuya yeniden gönderilmesi için kullanılır.
+     * @param args Metodun argümanları, tanım sırasıyla.
+     * @return Yeni çıktı; değişiklik yoksa null.
+     * @throws IllegalArgumentException Argüman sayısı veya tipleri metodun parametreleriyle uyuşmuyorsa.
+     */
+    public R renderIfChanged(Object... args) {
+        State previous = state;
+        State current = update(args);
+        if (previous != null && Objects.equals(previous.result, current.result)) {
+            return null;
+        }
+        return current.result;
+    }
+
+    /**
+     * Saklanan çıktıyı siler; sonraki çağrı mesajı kesinlikle yeniden işler.
+     */
+    public void invalidate() {
+        state = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private State update(Object[] args) {
+        if (args == null) {
+            args = NO_ARGS;
+        }
+        checkArguments(args);
+        CompiledMessage message = handler.currentMessage(entry, args);
+        String prefix = handler.currentPrefix();
+        State current = state;
+        if (current != null && current.message == message && current.prefix == prefix
+                && Arrays.equals(current.args, args) && !handler.isVolatile(entry, message, args)) {
+            return current;
+        }
+
+        State updated = new State(args.clone(), message, prefix, (R) handler.render(entry, args));
+        state = updated;
+        return updated;
+    }
+
+    /**
+     * Argümanların sayısını ve tiplerini metodun parametreleriyle karşılaştırır. İlkel parametreler için
+     * sarmalayıcı tipler beklenir ve null kabul edilmez.
+     */
+    private void checkArguments(Object[] args) {
+        if (args.length != parameterTypes.length) {
+            throw new IllegalArgumentException(describe() + " expects " + parameterTypes.length
+                    + " argument(s) but " + args.length + " were given.");
+        }
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg == null ? parameterTypes[i].isPrimitive() : !argumentTypes[i].isInstance(arg)) {
+                throw new IllegalArgumentException(describe() + " expects " + parameterTypes[i].getName()
+                        + " for argument " + i + " but got " + (arg == null ? "null" : arg.getClass().getName()) + ".");
+            }
+        }
+    }
+
+    private String describe() {
+        Method method = entry.method();
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == char.class) {
+            return Character.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        return Short.class;
+    }
+
+    /**
+     * Son işlemenin değişmez kaydı; tek bir volatile yazma ile yayınlanır.
+     */
+    private final class State {
+        private final Object[] args;
+        private final CompiledMessage message;
+        private final String prefix;
+        private final R result;
+
+        private State(Object[] args, CompiledMessage message, String prefix, R result) {
+            this.args = args;
+            this.message = message;
+            this.prefix = prefix;
+            this.result = result;
+        }
+    }
+}
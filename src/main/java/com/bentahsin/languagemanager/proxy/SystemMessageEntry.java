@@ -0,0 +1,26 @@
+package com.bentahsin.languagemanager.proxy;
+
+/**
+ * Bir sistem mesajı metodunun build sırasında çözülmüş kaydı.
+ * Aktif dil için seçilmiş çeviriyi, satırlarına önceden bölünmüş ve derlenmiş haliyle tutar;
+ * böylece çağrı sırasında dil araması veya geri düşüş zinciri çalıştırılmaz.
+ */
+final class SystemMessageEntry {
+
+    private final int ordinal;
+    private final OutputKind kind;
+    private final CompiledMessage message;
+    private final boolean localeFallback;
+
+    SystemMessageEntry(int ordinal, OutputKind kind, CompiledMessage message, boolean localeFallback) {
+        this.ordinal = ordinal;
+        this.kind = kind;
+        this.message = message;
+        this.localeFallback = localeFallback;
+    }
+
+    int ordinal() { return ordinal; }
+    OutputKind kind() { return kind; }
+    CompiledMessage message() { return message; }
+    boolean localeFallback() { return localeFallback; }
+}
@@ -2,39 +2,132 @@ package com.bentahsin.languagemanager.proxy;
 
 import com.bentahsin.languagemanager.LanguageManagerBuilder;
 import com.bentahsin.languagemanager.annotations.SystemMessages;
-import com.bentahsin.languagemanager.util.PlaceholderUtil;
-import net.kyori.adventure.text.Component;
-import org.bukkit.ChatColor;
+import com.bentahsin.languagemanager.locale.Locales;
+import com.bentahsin.languagemanager.metrics.MessageMetrics;
+import com.bentahsin.languagemanager.util.ComponentTemplate;
+import com.bentahsin.languagemanager.util.MessageTemplate;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Gömülü (hard-coded) sistem mesajı arayüzlerinin metot çağrılarını yakalayan ve işleyen proxy sınıfı.
  * Kütüphanenin sistem mesajları modülünün beyni olarak çalışır.
  */
-public class SystemMessageProxyHandler implements InvocationHandler {
+public class SystemMessageProxyHandler implements InvocationHandler, MessageDispatcher {
 
     private final LanguageManagerBuilder builder;
-    private final Map<String, Map<String, String>> translations;
-    private final String activeLocale;
-    private final String defaultLocale;
+    private final Map<Method, SystemMessageEntry> dispatchTable;
+    private final SystemMessageEntry[] entries;
+    private final MessageMetrics metrics;
 
     /**
      * SystemMessageProxyHandler için kurucu metot.
+     * Her metot için aktif dile göre seçilen çeviri burada bir kez çözülür, satırlarına bölünür ve
+     * derlenir; metin ve liste çevirilerinin renk kodları da bu sırada çevrilir.
      * @param builder Ana LanguageManagerBuilder.
+     * @param interfaceClass İşlenecek sistem mesajı arayüzü.
      * @param config Arayüzden alınan @SystemMessages anotasyonu.
-     * @param translations Ayrıştırılmış çeviriler.
+     * @param translations Metoda göre ayrıştırılmış çeviriler.
      */
-    public SystemMessageProxyHandler(LanguageManagerBuilder builder, SystemMessages config, Map<String, Map<String, String>> translations) {
+    public SystemMessageProxyHandler(LanguageManagerBuilder builder, Class<?> interfaceClass, SystemMessages config, Map<Method, Map<String, String>> translations) {
         this.builder = builder;
-        this.translations = translations;
-        this.activeLocale = builder.getLocale();
-        this.defaultLocale = config.defaultLocale();
+        String activeLocale = builder.getLocale();
+        String defaultLocale = config.defaultLocale();
+
+        Map<Method, SystemMessageEntry> table = new HashMap<>();
+        List<SystemMessageEntry> ordered = new ArrayList<>();
+        List<Method> methods = new ArrayList<>();
+        for (Method method : interfaceClass.getDeclaredMethods()) {
+            Map<String, String> methodTranslations = translations.get(method);
+            if (methodTranslations == null || methodTranslations.isEmpty()) {
+                continue;
+            }
+
+            String messageLocale = activeLocale;
+            String message = methodTranslations.get(activeLocale);
+            boolean localeFallback = message == null;
+            if (message == null) {
+                messageLocale = defaultLocale;
+                message = methodTranslations.get(defaultLocale);
+            }
+            if (message == null) {
+                Map.Entry<String, String> first = methodTranslations.entrySet().iterator().next();
+                messageLocale = first.getKey();
+                message = first.getValue();
+            }
+
+            SystemMessageEntry entry = new SystemMessageEntry(ordered.size(), OutputKind.of(method.getReturnType()),
+                    compile(method, message, Locales.toLocale(messageLocale)), localeFallback);
+            table.put(method, entry);
+            ordered.add(entry);
+            methods.add(method);
+        }
+        this.dispatchTable = Collections.unmodifiableMap(table);
+        this.entries = ordered.toArray(new SystemMessageEntry[0]);
+        this.metrics = builder.getMetrics() == null ? null : builder.getMetrics().register(interfaceClass, keysOf(methods));
+    }
+
+    /**
+     * Seçilen çeviriyi metodun çıktı türüne göre derler.
+     * Liste döndüren metotlar için metin {@code \n} karakterlerinden bir kez bölünür ve her satır ayrı derlenir.
+     * Biçimli placeholder'lar çevirinin diline göre biçimlendirilir.
+     */
+    private CompiledMessage compile(Method method, String message, Locale locale) {
+        OutputKind kind = OutputKind.of(method.getReturnType());
+        if (kind == OutputKind.COMPONENT) {
+            MessageTemplate template = MessageTemplate.compile(message, method);
+            return new CompiledMessage(new MessageTemplate[]{template}, ComponentTemplate.compile(template, builder.getMiniMessage()), false, locale);
+        }
+        if (kind == OutputKind.LIST) {
+            String[] lines = message.split("\n");
+            MessageTemplate[] templates = new MessageTemplate[lines.length];
+            for (int i = 0; i < lines.length; i++) {
+                templates[i] = MessageTemplate.compile(lines[i], method).withColors();
+            }
+            return new CompiledMessage(templates, null, false, locale);
+        }
+        return new CompiledMessage(new MessageTemplate[]{MessageTemplate.compile(message, method).withColors()}, null, false, locale);
+    }
+
+    /**
+     * Metrik anahtarlarını üretir; aşırı yüklenmiş metotlar parametre tipleriyle ayırt edilir.
+     */
+    private static String[] keysOf(List<Method> methods) {
+        Set<String> names = new HashSet<>();
+        Set<String> overloaded = new HashSet<>();
+        for (Method method : methods) {
+            if (!names.add(method.getName())) {
+                overloaded.add(method.getName());
+            }
+        }
+
+        String[] keys = new String[methods.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Method method = methods.get(i);
+            if (!overloaded.contains(method.getName())) {
+                keys[i] = method.getName();
+                continue;
+            }
+            StringBuilder key = new StringBuilder(method.getName()).append('(');
+            Class<?>[] types = method.getParameterTypes();
+            for (int p = 0; p < types.length; p++) {
+                if (p > 0) {
+                    key.append(", ");
+                }
+                key.append(types[p].getSimpleName());
+            }
+            keys[i] = key.append(')').toString();
+        }
+        return keys;
     }
 
     @Override
@@ -43,33 +136,67 @@ public class SystemMessageProxyHandler implements InvocationHandler {
             return method.invoke(this, args);
         }
 
-        Map<String, String> methodTranslations = translations.get(method.getName());
-        if (methodTranslations == null || methodTranslations.isEmpty()) {
+        SystemMessageEntry entry = dispatchTable.get(method);
+        if (entry == null) {
+            if (metrics != null) {
+                metrics.recordUnresolved();
+            }
             return "Missing @Translation definitions for method: " + method.getName();
         }
+        return render(entry, args);
+    }
 
-        String message = methodTranslations.get(activeLocale);
-        if (message == null) {
-            message = methodTranslations.get(defaultLocale);
-        }
+    @Override
+    public int ordinal(Method method) {
+        SystemMessageEntry entry = dispatchTable.get(method);
+        return entry == null ? -1 : entry.ordinal();
+    }
 
-        if (message == null) {
-            message = methodTranslations.values().iterator().next();
+    @Override
+    public Object dispatch(int ordinal, Object[] args) {
+        if (ordinal < 0 || ordinal >= entries.length) {
+            if (metrics != null) {
+                metrics.recordUnresolved();
+            }
+            return "Missing @Translation definitions for method ordinal: " + ordinal;
         }
+        return render(entries[ordinal], args);
+    }
 
-        Class<?> returnType = method.getReturnType();
-        String finalMessage = PlaceholderUtil.applyInternalPlaceholders(message, method, args);
-
-        if (returnType.equals(Component.class)) {
-            return builder.getMiniMessage().deserialize(finalMessage);
+    /**
+     * Bir kaydı işler; metrikler açıksa süresini ve dil geri düşüşünü kaydeder.
+     */
+    private Object render(SystemMessageEntry entry, Object[] args) {
+        if (metrics == null) {
+            return renderMessage(entry, args);
         }
 
-        if (returnType.equals(List.class)) {
-            return Arrays.stream(finalMessage.split("\n"))
-                    .map(line -> ChatColor.translateAlternateColorCodes('&', line))
-                    .collect(Collectors.toList());
+        long start = System.nanoTime();
+        if (entry.localeFallback()) {
+            metrics.recordLocaleFallback(entry.ordinal());
         }
+        Object result = renderMessage(entry, args);
+        metrics.recordRender(entry.ordinal(), System.nanoTime() - start);
+        return result;
+    }
 
-        return ChatColor.translateAlternateColorCodes('&', finalMessage);
+    private Object renderMessage(SystemMessageEntry entry, Object[] args) {
+        CompiledMessage message = entry.message();
+        switch (entry.kind()) {
+            case COMPONENT:
+                return message.component().render(builder.getMiniMessage(), args, message.locale(), null);
+            case LIST:
+                if (message.constantLines() != null) {
+                    return message.constantLines();
+                }
+                MessageTemplate[] lines = message.lines();
+                List<String> rendered = new ArrayList<>(lines.length);
+                for (MessageTemplate line : lines) {
+                    rendered.add(line.render(args, message.locale()));
+                }
+                return rendered;
+            default:
+                return message.lines()[0].render(args, message.locale());
+        }
     }
-}
\ No newline at end of file
+}
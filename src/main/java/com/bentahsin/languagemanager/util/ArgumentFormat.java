@@ -0,0 +1,282 @@
+package com.bentahsin.languagemanager.util;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bir placeholder'ın türlü biçimlendirme tanımı; yükleme anında bir kez ayrıştırılır.
+ * <p>
+ * Desteklenen biçimler:
+ * <ul>
+ *     <li>{@code {x,number}}, {@code {x,integer}}, {@code {x,percent}}, {@code {x,number,#,##0.00}}</li>
+ *     <li>{@code {x,currency}}, {@code {x,currency,EUR}}</li>
+ *     <li>{@code {x,date}}, {@code {x,time}}, {@code {x,datetime}}; isteğe bağlı {@code short|medium|long|full}</li>
+ *     <li>{@code {x,duration}} (milisaniye), {@code {x,duration,seconds}}, {@code {x,duration,ticks}}</li>
+ *     <li>{@code {x,plural,=0{hiç} one{# eşya} other{# eşya}}}; {@code #} sayının dile göre biçimlenmiş halidir</li>
+ * </ul>
+ * Örnekler değişmezdir; dile bağlı biçimlendiriciler {@link Formatters} üzerinden alınır.
+ */
+abstract class ArgumentFormat {
+
+    /**
+     * Bir değeri verilen dile göre biçimlendirir. Biçime uymayan değerler {@link String#valueOf} ile yazılır.
+     * @param value Argüman değeri (null olabilir).
+     * @param locale Biçimlendirme dili.
+     * @return Biçimlenmiş metin.
+     */
+    abstract String format(Object value, Locale locale);
+
+    /**
+     * Bir placeholder'ın virgülden sonraki kısmını ayrıştırır.
+     * @param spec Biçim tanımı (örn. "number", "plural,one{# eşya} other{# eşya}").
+     * @return Ayrıştırılmış biçim; tanım tanınmıyor veya geçersizse null.
+     */
+    static ArgumentFormat parse(String spec) {
+        int comma = spec.indexOf(',');
+        String type = (comma < 0 ? spec : spec.substring(0, comma)).trim().toLowerCase(Locale.ROOT);
+        String option = comma < 0 ? "" : spec.substring(comma + 1).trim();
+        try {
+            switch (type) {
+                case "number":
+                    return new NumberArgument(option.isEmpty() ? "number" : "pattern:" + option);
+                case "integer":
+                case "percent":
+                    return new NumberArgument(type);
+                case "currency":
+                    return new NumberArgument(option.isEmpty() ? "currency" : "currency:" + option.toUpperCase(Locale.ROOT));
+                case "date":
+                case "time":
+                case "datetime":
+                    return new DateArgument(type, option.isEmpty()
+                            ? FormatStyle.MEDIUM : FormatStyle.valueOf(option.toUpperCase(Locale.ROOT)));
+                case "duration":
+                    return new DurationArgument(option.isEmpty() ? "millis" : option.toLowerCase(Locale.ROOT));
+                case "plural":
+                    return PluralArgument.parse(option);
+                default:
+                    return null;
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class NumberArgument extends ArgumentFormat {
+        private final String style;
+
+        NumberArgument(String style) {
+            Formatters.validateNumberStyle(style);
+            this.style = style;
+        }
+
+        @Override
+        String format(Object value, Locale locale) {
+            if (!(value instanceof Number)) {
+                return String.valueOf(value);
+            }
+            return Formatters.number(style, locale).format(value);
+        }
+    }
+
+    private static final class DateArgument extends ArgumentFormat {
+        private final String type;
+        private final FormatStyle style;
+
+        DateArgument(String type, FormatStyle style) {
+            this.type = type;
+            this.style = style;
+        }
+
+        @Override
+        String format(Object value, Locale locale) {
+            TemporalAccessor temporal = toTemporal(value);
+            if (temporal == null) {
+                return String.valueOf(value);
+            }
+            try {
+                return Formatters.dateTime(type, style, locale).format(temporal);
+            } catch (DateTimeException e) {
+                return String.valueOf(value);
+            }
+        }
+
+        private static TemporalAccessor toTemporal(Object value) {
+            if (value instanceof Instant) {
+                return ((Instant) value).atZone(ZoneId.systemDefault());
+            }
+            if (value instanceof TemporalAccessor) {
+                return (TemporalAccessor) value;
+            }
+            if (value instanceof Date) {
+                return ((Date) value).toInstant().atZone(ZoneId.systemDefault());
+            }
+            if (value instanceof Calendar) {
+                return ((Calendar) value).toInstant().atZone(ZoneId.systemDefault());
+            }
+            if (value instanceof Long) {
+                return Instant.ofEpochMilli((Long) value).atZone(ZoneId.systemDefault());
+            }
+            return null;
+        }
+    }
+
+    private static final class DurationArgument extends ArgumentFormat {
+        private final long millisPerUnit;
+
+        DurationArgument(String unit) {
+            switch (unit) {
+                case "millis":
+                    this.millisPerUnit = 1;
+                    break;
+                case "ticks":
+                    this.millisPerUnit = 50;
+                    break;
+                case "seconds":
+                    this.millisPerUnit = 1000;
+                    break;
+                case "minutes":
+                    this.millisPerUnit = 60_000;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown duration unit: " + unit);
+            }
+        }
+
+        /**
+         * Süreyi sıfır olmayan birimleriyle kısa biçimde yazar (örn. "1d 2h 5m 3s").
+         */
+        @Override
+        String format(Object value, Locale locale) {
+            long millis;
+            if (value instanceof Duration) {
+                millis = ((Duration) value).toMillis();
+            } else if (value instanceof Number) {
+                millis = ((Number) value).longValue() * millisPerUnit;
+            } else {
+                return String.valueOf(value);
+            }
+
+            long seconds = Math.abs(millis / 1000);
+            if (seconds == 0) {
+                return "0s";
+            }
+            StringBuilder builder = new StringBuilder(16);
+            if (millis < 0) {
+                builder.append('-');
+            }
+            appendUnit(builder, seconds / 86_400, 'd');
+            appendUnit(builder, seconds / 3_600 % 24, 'h');
+            appendUnit(builder, seconds / 60 % 60, 'm');
+            appendUnit(builder, seconds % 60, 's');
+            return builder.toString();
+        }
+
+        private static void appendUnit(StringBuilder builder, long amount, char unit) {
+            if (amount == 0) {
+                return;
+            }
+            if (builder.length() > 1 || (builder.length() == 1 && builder.charAt(0) != '-')) {
+                builder.append(' ');
+            }
+            builder.append(amount).append(unit);
+        }
+    }
+
+    private static final class PluralArgument extends ArgumentFormat {
+        private final Map<Long, String[]> exact;
+        private final Map<String, String[]> categories;
+
+        private PluralArgument(Map<Long, String[]> exact, Map<String, String[]> categories) {
+            this.exact = exact;
+            this.categories = categories;
+        }
+
+        /**
+         * {@code seçici{metin}} çiftlerini ayrıştırır. Seçici bir çoğul kategorisi ("one", "few", "other")
+         * veya tam bir değerdir ("=0"). Metinler {@code #} karakterlerinden önceden bölünür.
+         */
+        static PluralArgument parse(String option) {
+            Map<Long, String[]> exact = new HashMap<>();
+            Map<String, String[]> categories = new HashMap<>();
+            int i = 0;
+            while (i < option.length()) {
+                int open = option.indexOf('{', i);
+                if (open < 0) {
+                    if (!option.substring(i).trim().isEmpty()) {
+                        return null;
+                    }
+                    break;
+                }
+                String selector = option.substring(i, open).trim();
+                int close = matchingBrace(option, open);
+                if (selector.isEmpty() || close < 0) {
+                    return null;
+                }
+                String[] parts = option.substring(open + 1, close).split("#", -1);
+                if (selector.startsWith("=")) {
+                    exact.put(Long.parseLong(selector.substring(1).trim()), parts);
+                } else {
+                    categories.put(selector.toLowerCase(Locale.ROOT), parts);
+                }
+                i = close + 1;
+            }
+            return categories.containsKey(PluralRules.OTHER) ? new PluralArgument(exact, categories) : null;
+        }
+
+        @Override
+        String format(Object value, Locale locale) {
+            if (!(value instanceof Number)) {
+                return String.valueOf(value);
+            }
+            Number number = (Number) value;
+            String[] parts = null;
+            if (!exact.isEmpty() && (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) {
+                parts = exact.get(number.longValue());
+            }
+            if (parts == null) {
+                parts = categories.get(PluralRules.select(locale, number));
+            }
+            if (parts == null) {
+                parts = categories.get(PluralRules.OTHER);
+            }
+            if (parts.length == 1) {
+                return parts[0];
+            }
+
+            String formatted = Formatters.number("number", locale).format(number);
+            StringBuilder builder = new StringBuilder(32);
+            builder.append(parts[0]);
+            for (int p = 1; p < parts.length; p++) {
+                builder.append(formatted).append(parts[p]);
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * @param text Aranacak metin.
+     * @param open Açılan süslü parantezin konumu.
+     * @return İç içe parantezler dikkate alınarak eşleşen kapanış parantezinin konumu; yoksa -1.
+     */
+    static int matchingBrace(String text, int open) {
+        int depth = 0;
+        for (int i = open; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
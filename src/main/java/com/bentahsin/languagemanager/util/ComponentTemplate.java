@@ -0,0 +1,265 @@
+package com.bentahsin.languagemanager.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Component döndüren mesajlar için, yükleme anında MiniMessage'a hazırlanmış şablon.
+ * <p>
+ * Argümansız mesajlar bir kez ayrıştırılır ve her çağrıda aynı {@link Component} döndürülür.
+ * Parametreli mesajlarda {@code {isim}} yuvaları yükleme anında {@code <lm_arg0>} gibi etiketlere
+ * çevrilir ve mesaj, her etiketin yerinde bir işaret metni bulunan bir bileşen ağacı olarak bir kez
+ * ayrıştırılır. Çağrı anında yalnızca bu işaretler argüman değerleriyle değiştirilir; argümanlar MiniMessage
+ * kaynağına geri birleştirilmez ve oyuncudan gelen metinler etiket olarak yorumlanmaz.
+ * <p>
+ * Bir yuva bir etiketin içinde geçiyorsa (örn. {@code <click:run_command:/msg {oyuncu}>}), MiniMessage etiket
+ * argümanlarında çözücü desteklemediği için o yuvanın değeri, etiketleri kaçışlanarak
+ * ({@link MiniMessage#escapeTags}) kaynağa eklenir ve mesaj her çağrıda ayrıştırılır. Böyle bir değer yeni bir
+ * etiket açamaz. PlaceholderAPI gibi kaynak dönüşümleri kullanılan çağrılarda da mesaj her çağrıda ayrıştırılır;
+ * dönüşüm yalnızca mesaj metnine uygulanır, argüman değerlerine hiçbir zaman uygulanmaz.
+ * <p>
+ * Biçimli yuvalar (örn. {@code {bakiye,currency}}) aynı parametre farklı biçimlerle kullanılabileceği için
+ * her zaman kendi etiketini alır ve değerleri çağrı anında mesajın diline göre biçimlendirilir.
+ */
+public final class ComponentTemplate {
+
+    private static final String TAG_PREFIX = "lm_arg";
+    private static final char MARKER_START = '\uE000';
+    private static final char MARKER_END = '\uE001';
+    private static final Pattern MARKER = Pattern.compile(MARKER_START + "(\\d+)" + MARKER_END);
+
+    private final MessageTemplate template;
+    private final String source;
+    private final int[] parameters;
+    private final int[] formatSlots;
+    private final String[] tagNames;
+    private final String[] tokens;
+    private final String[] sourceParts;
+    private final int[] inlineSlots;
+    private final Component constant;
+    private final Component parsed;
+
+    private ComponentTemplate(MessageTemplate template, String source, int[] parameters, int[] formatSlots, String[] tagNames,
+                              String[] tokens, String[] sourceParts, int[] inlineSlots, Component constant, Component parsed) {
+        this.template = template;
+        this.source = source;
+        this.parameters = parameters;
+        this.formatSlots = formatSlots;
+        this.tagNames = tagNames;
+        this.tokens = tokens;
+        this.sourceParts = sourceParts;
+        this.inlineSlots = inlineSlots;
+        this.constant = constant;
+        this.parsed = parsed;
+    }
+
+    /**
+     * Derlenmiş bir mesaj şablonunu MiniMessage için hazırlar.
+     * @param template Derlenmiş mesaj şablonu.
+     * @param miniMessage Mesajları önceden ayrıştırmak için kullanılacak MiniMessage örneği.
+     * @return Hazırlanmış şablon.
+     */
+    public static ComponentTemplate compile(MessageTemplate template, MiniMessage miniMessage) {
+        if (template.isConstant()) {
+            return new ComponentTemplate(template, template.getSource(), new int[0], new int[0], new String[0], new String[0],
+                    null, null, miniMessage.deserialize(template.getSource()), null);
+        }
+
+        String[] literals = template.literals();
+        int[] slots = template.slots();
+        String[] slotTokens = template.tokens();
+        int[] parameters = new int[slots.length];
+        int[] formatSlots = new int[slots.length];
+        String[] tagNames = new String[slots.length];
+        String[] tokens = new String[slots.length];
+        int parameterCount = 0;
+        List<String> sourceParts = new ArrayList<>();
+        List<Integer> inlineSlots = new ArrayList<>();
+
+        StringBuilder source = new StringBuilder(template.getSource().length() + slots.length * 4);
+        StringBuilder part = new StringBuilder();
+        for (int i = 0; i < slots.length; i++) {
+            source.append(literals[i]);
+            part.append(literals[i]);
+            if (insideTag(source)) {
+                sourceParts.add(part.toString());
+                part.setLength(0);
+                inlineSlots.add(i);
+                continue;
+            }
+
+            int known = -1;
+            if (!template.isFormatted(i)) {
+                for (int p = 0; p < parameterCount; p++) {
+                    if (parameters[p] == slots[i] && formatSlots[p] < 0) {
+                        known = p;
+                        break;
+                    }
+                }
+            }
+            if (known < 0) {
+                known = parameterCount++;
+                parameters[known] = slots[i];
+                formatSlots[known] = template.isFormatted(i) ? i : -1;
+                tagNames[known] = template.isFormatted(i) ? TAG_PREFIX + slots[i] + "_" + i : TAG_PREFIX + slots[i];
+                tokens[known] = slotTokens[i];
+            }
+            String tag = "<" + tagNames[known] + ">";
+            source.append(tag);
+            part.append(tag);
+        }
+        source.append(literals[slots.length]);
+        part.append(literals[slots.length]);
+
+        String[] names = Arrays.copyOf(tagNames, parameterCount);
+        Component parsed = null;
+        if (inlineSlots.isEmpty()) {
+            TagResolver[] markers = new TagResolver[parameterCount];
+            for (int i = 0; i < parameterCount; i++) {
+                markers[i] = Placeholder.component(names[i], Component.text(MARKER_START + Integer.toString(i) + MARKER_END));
+            }
+            parsed = miniMessage.deserialize(source.toString(), TagResolver.resolver(markers));
+        } else {
+            sourceParts.add(part.toString());
+        }
+
+        return new ComponentTemplate(template, source.toString(),
+                Arrays.copyOf(parameters, parameterCount), Arrays.copyOf(formatSlots, parameterCount), names,
+                Arrays.copyOf(tokens, parameterCount),
+                inlineSlots.isEmpty() ? null : sourceParts.toArray(new String[0]),
+                inlineSlots.isEmpty() ? null : inlineSlots.stream().mapToInt(Integer::intValue).toArray(),
+                null, parsed);
+    }
+
+    /**
+     * Metnin sonunda kapanmamış bir MiniMessage etiketi olup olmadığını kontrol eder.
+     */
+    private static boolean insideTag(CharSequence text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            char c = text.charAt(i);
+            if (c == '>') {
+                return false;
+            }
+            if (c == '<') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Şablonu verilen argümanlarla işler.
+     * @param miniMessage Kullanılacak MiniMessage örneği.
+     * @param args Metoda geçirilen argümanlar (null olabilir).
+     * @return İşlenmiş bileşen.
+     */
+    public Component render(MiniMessage miniMessage, Object[] args) {
+        return render(miniMessage, args, null);
+    }
+
+    /**
+     * Şablonu, ayrıştırmadan önce MiniMessage kaynağına bir dönüşüm (örn. PlaceholderAPI) uygulayarak işler.
+     * Dönüşüm yalnızca mesaj metnine uygulanır; argüman değerleri dönüşümden geçirilmez.
+     * @param miniMessage Kullanılacak MiniMessage örneği.
+     * @param args Metoda geçirilen argümanlar (null olabilir).
+     * @param sourceFilter Kaynağa uygulanacak dönüşüm (null ise uygulanmaz).
+     * @return İşlenmiş bileşen.
+     */
+    public Component render(MiniMessage miniMessage, Object[] args, UnaryOperator<String> sourceFilter) {
+        return render(miniMessage, args, Locale.ROOT, sourceFilter);
+    }
+
+    /**
+     * Şablonu, biçimli yuvaları verilen dile göre biçimlendirerek işler. Dönüşüm verilmemişse ve hiçbir yuva
+     * bir etiketin içinde değilse mesaj ayrıştırılmaz; önceden ayrıştırılmış ağaçtaki işaretler değiştirilir.
+     * @param miniMessage Kullanılacak MiniMessage örneği.
+     * @param args Metoda geçirilen argümanlar (null olabilir).
+     * @param locale Biçimli yuvaların biçimlendirileceği dil.
+     * @param sourceFilter Kaynağa uygulanacak dönüşüm (null ise uygulanmaz).
+     * @return İşlenmiş bileşen.
+     */
+    public Component render(MiniMessage miniMessage, Object[] args, Locale locale, UnaryOperator<String> sourceFilter) {
+        if (constant != null && sourceFilter == null) {
+            return constant;
+        }
+        if (parsed != null && sourceFilter == null) {
+            String[] values = values(args, locale);
+            return parsed.replaceText(TextReplacementConfig.builder()
+                    .match(MARKER)
+                    .replacement((match, builder) -> builder.content(values[Integer.parseInt(match.group(1))]))
+                    .build());
+        }
+
+        String text;
+        if (sourceParts == null) {
+            text = sourceFilter == null ? source : sourceFilter.apply(source);
+        } else {
+            text = inlineSource(miniMessage, args, locale, sourceFilter);
+        }
+        if (parameters.length == 0) {
+            return miniMessage.deserialize(text);
+        }
+        return miniMessage.deserialize(text, resolvers(args, locale));
+    }
+
+    /**
+     * Etiket içindeki yuvaların değerlerini, etiketleri kaçışlanmış olarak kaynağa ekler.
+     * Dönüşüm yalnızca değerlerin arasındaki mesaj parçalarına uygulanır.
+     */
+    private String inlineSource(MiniMessage miniMessage, Object[] args, Locale locale, UnaryOperator<String> sourceFilter) {
+        int[] slots = template.slots();
+        String[] slotTokens = template.tokens();
+        StringBuilder text = new StringBuilder(source.length() + inlineSlots.length * 16);
+        for (int k = 0; k < inlineSlots.length; k++) {
+            text.append(sourceFilter == null ? sourceParts[k] : sourceFilter.apply(sourceParts[k]));
+            int slot = inlineSlots[k];
+            String value = args == null || slots[slot] >= args.length
+                    ? slotTokens[slot]
+                    : template.formatArgument(slot, args[slots[slot]], locale);
+            text.append(miniMessage.escapeTags(value));
+        }
+        String last = sourceParts[inlineSlots.length];
+        return text.append(sourceFilter == null ? last : sourceFilter.apply(last)).toString();
+    }
+
+    private String[] values(Object[] args, Locale locale) {
+        String[] values = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            int parameter = parameters[i];
+            if (args == null || parameter >= args.length) {
+                values[i] = tokens[i];
+            } else if (formatSlots[i] >= 0) {
+                values[i] = template.formatArgument(formatSlots[i], args[parameter], locale);
+            } else {
+                values[i] = String.valueOf(args[parameter]);
+            }
+        }
+        return values;
+    }
+
+    private TagResolver resolvers(Object[] args, Locale locale) {
+        String[] values = values(args, locale);
+        TagResolver[] resolvers = new TagResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            resolvers[i] = Placeholder.unparsed(tagNames[i], values[i]);
+        }
+        return TagResolver.resolver(resolvers);
+    }
+
+    /**
+     * @return Argümansız ve önceden ayrıştırılmış bir mesajsa true.
+     */
+    public boolean isConstant() {
+        return constant != null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.bentahsin.languagemanager.util;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Biçimlendirilmiş placeholder'ların kullandığı, dil başına önbelleğe alınmış biçimlendiriciler.
+ * <p>
+ * {@link NumberFormat} thread-safe olmadığından sayı biçimlendiricileri thread başına tutulur
+ * (thread-confined); her thread, her stil ve dil için bir kez oluşturduğu örneği tekrar kullanır.
+ * {@link DateTimeFormatter} değişmez olduğundan tüm thread'ler arasında paylaşılır.
+ * Böylece bir mesaj işlenirken hiçbir biçimlendirici yeniden oluşturulmaz.
+ */
+final class Formatters {
+
+    private static final ThreadLocal<Map<String, Map<Locale, NumberFormat>>> NUMBER_FORMATS = ThreadLocal.withInitial(HashMap::new);
+    private static final Map<String, Map<Locale, DateTimeFormatter>> DATE_FORMATS = new ConcurrentHashMap<>();
+
+    /**
+     * Bu sınıfın bir örneğinin oluşturulmasını engellemek için private constructor.
+     */
+    private Formatters() {
+    }
+
+    /**
+     * Çağıran thread'e ait sayı biçimlendiricisini döndürür. Dönen örnek başka bir thread'e verilmemelidir.
+     * @param style "number", "integer", "percent", "currency", "currency:KOD" veya "pattern:DESEN".
+     * @param locale Biçimlendirme dili.
+     * @return Önbellekteki biçimlendirici.
+     */
+    static NumberFormat number(String style, Locale locale) {
+        Map<String, Map<Locale, NumberFormat>> formats = NUMBER_FORMATS.get();
+        Map<Locale, NumberFormat> byLocale = formats.get(style);
+        if (byLocale == null) {
+            byLocale = new HashMap<>(4);
+            formats.put(style, byLocale);
+        }
+        NumberFormat format = byLocale.get(locale);
+        if (format == null) {
+            format = createNumberFormat(style, locale);
+            byLocale.put(locale, format);
+        }
+        return format;
+    }
+
+    /**
+     * Paylaşılan tarih/saat biçimlendiricisini döndürür.
+     * @param type "date", "time" veya "datetime".
+     * @param style Tarih/saat uzunluğu.
+     * @param locale Biçimlendirme dili.
+     * @return Önbellekteki biçimlendirici.
+     */
+    static DateTimeFormatter dateTime(String type, FormatStyle style, Locale locale) {
+        Map<Locale, DateTimeFormatter> byLocale = DATE_FORMATS.computeIfAbsent(type + ':' + style, key -> new ConcurrentHashMap<>());
+        DateTimeFormatter formatter = byLocale.get(locale);
+        if (formatter == null) {
+            formatter = createDateTimeFormatter(type, style).withLocale(locale);
+            byLocale.put(locale, formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * Stil metninin geçerli olup olmadığını, bir biçimlendirici oluşturarak yükleme anında doğrular.
+     * @throws IllegalArgumentException Desen veya para birimi kodu geçersizse.
+     */
+    static void validateNumberStyle(String style) {
+        createNumberFormat(style, Locale.ROOT);
+    }
+
+    private static NumberFormat createNumberFormat(String style, Locale locale) {
+        if (style.startsWith("pattern:")) {
+            return new DecimalFormat(style.substring("pattern:".length()), DecimalFormatSymbols.getInstance(locale));
+        }
+        if (style.startsWith("currency")) {
+            NumberFormat format = NumberFormat.getCurrencyInstance(locale);
+            if (style.startsWith("currency:")) {
+                format.setCurrency(Currency.getInstance(style.substring("currency:".length())));
+            }
+            return format;
+        }
+        switch (style) {
+            case "integer":
+                return NumberFormat.getIntegerInstance(locale);
+            case "percent":
+                return NumberFormat.getPercentInstance(locale);
+            default:
+                return NumberFormat.getInstance(locale);
+        }
+    }
+
+    private static DateTimeFormatter createDateTimeFormatter(String type, FormatStyle style) {
+        switch (type) {
+            case "time":
+                return DateTimeFormatter.ofLocalizedTime(style);
+            case "datetime":
+                return DateTimeFormatter.ofLocalizedDateTime(style);
+            default:
+                return DateTimeFormatter.ofLocalizedDate(style);
+        }
+    }
+}
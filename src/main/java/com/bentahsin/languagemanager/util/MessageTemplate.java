@@ -0,0 +1,305 @@
+package com.bentahsin.languagemanager.util;
+
+import org.bukkit.ChatColor;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Bir mesaj metninin yükleme anında bir kez ayrıştırılmış (derlenmiş) halidir.
+ * <p>
+ * Metin, sabit parçalara ve metot parametrelerine indeks ile bağlanmış yuvalara bölünür.
+ * Böylece her çağrıda parametre isimleri aranmaz ve metin üzerinde tekrar tekrar
+ * {@code String.replace} yapılmaz; render işlemi önceden boyutlandırılmış tek bir
+ * {@link StringBuilder} üzerinde tek geçişte tamamlanır.
+ * <p>
+ * Yuvalar türlü bir biçim taşıyabilir (örn. {@code {bakiye,currency}}, {@code {adet,plural,one{# eşya} other{# eşya}}});
+ * desteklenen biçimler {@link ArgumentFormat} içinde listelenmiştir. Biçimler yüklemede bir kez ayrıştırılır ve
+ * render sırasında verilen dile göre, önbelleğe alınmış biçimlendiricilerle uygulanır.
+ * <p>
+ * {@link #withColors()} ile elde edilen şablonlarda sabit parçalardaki {@code &} renk kodları yükleme
+ * anında bir kez çevrilir; render sırasında yalnızca eklenen argüman değerleri çevrilir.
+ * <p>
+ * Örnekler değişmezdir (immutable) ve thread'ler arasında güvenle paylaşılabilir.
+ */
+public final class MessageTemplate {
+
+    /**
+     * Bir argümanın metne ekleneceği tahmini uzunluk; builder kapasitesi hesaplanırken kullanılır.
+     */
+    private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+
+    private final String source;
+    private final String[] literals;
+    private final int[] slots;
+    private final String[] tokens;
+    private final ArgumentFormat[] formats;
+    private final int literalLength;
+    private final boolean colors;
+
+    private MessageTemplate(String source, String[] literals, int[] slots, String[] tokens, ArgumentFormat[] formats) {
+        this(source, literals, slots, tokens, formats, false);
+    }
+
+    private MessageTemplate(String source, String[] literals, int[] slots, String[] tokens, ArgumentFormat[] formats, boolean colors) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.tokens = tokens;
+        this.formats = formats;
+        this.colors = colors;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Bir metni, verilen metodun parametre isimlerine göre derler.
+     * @param message Derlenecek ham metin.
+     * @param method Metnin ait olduğu arayüz metodu.
+     * @return Derlenmiş şablon.
+     */
+    public static MessageTemplate compile(String message, Method method) {
+        Parameter[] parameters = method.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            names[i] = parameters[i].getName();
+        }
+        return compile(message, names);
+    }
+
+    /**
+     * Bir metni, verilen parametre isimlerine göre derler.
+     * Metin içindeki {@code {isim}} ifadeleri, ismin dizideki sırasına bağlanır.
+     * {@code {isim,biçim}} ifadeleri ayrıca verilen biçimle işaretlenir.
+     * Hiçbir parametreyle eşleşmeyen süslü parantezler ve tanınmayan biçimler olduğu gibi bırakılır.
+     * @param message Derlenecek ham metin.
+     * @param parameterNames Metot parametrelerinin isimleri, tanım sırasıyla.
+     * @return Derlenmiş şablon.
+     */
+    public static MessageTemplate compile(String message, String[] parameterNames) {
+        if (message == null) {
+            message = "";
+        }
+        if (parameterNames.length == 0 || message.indexOf('{') < 0) {
+            return new MessageTemplate(message, new String[]{message}, new int[0], new String[0], new ArgumentFormat[0]);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        List<ArgumentFormat> formats = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(message.length());
+
+        int i = 0;
+        while (i < message.length()) {
+            char c = message.charAt(i);
+            if (c == '{') {
+                int end = message.indexOf('}', i + 1);
+                int comma = message.indexOf(',', i + 1);
+                if (comma > i && comma < end) {
+                    int index = indexOf(parameterNames, message.substring(i + 1, comma).trim());
+                    int formatEnd = ArgumentFormat.matchingBrace(message, i);
+                    ArgumentFormat format = index >= 0 && formatEnd > 0 ? ArgumentFormat.parse(message.substring(comma + 1, formatEnd)) : null;
+                    if (format != null) {
+                        literals.add(literal.toString());
+                        literal.setLength(0);
+                        slots.add(index);
+                        tokens.add(message.substring(i, formatEnd + 1));
+                        formats.add(format);
+                        i = formatEnd + 1;
+                        continue;
+                    }
+                }
+                if (end > i) {
+                    String name = message.substring(i + 1, end);
+                    int index = indexOf(parameterNames, name);
+                    if (index >= 0) {
+                        literals.add(literal.toString());
+                        literal.setLength(0);
+                        slots.add(index);
+                        tokens.add(message.substring(i, end + 1));
+                        formats.add(null);
+                        i = end + 1;
+                        continue;
+                    }
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+
+        int[] slotArray = new int[slots.size()];
+        for (int s = 0; s < slotArray.length; s++) {
+            slotArray[s] = slots.get(s);
+        }
+        return new MessageTemplate(message, literals.toArray(new String[0]), slotArray, tokens.toArray(new String[0]),
+                formats.toArray(new ArgumentFormat[0]));
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sabit parçalarındaki {@code &} renk kodları önceden çevrilmiş bir kopyasını döndürür.
+     * Sonucun render çıktısı, bu şablonun çıktısına {@code ChatColor.translateAlternateColorCodes('&', ...)}
+     * uygulanmasıyla aynıdır; ancak sabit metin her çağrıda yeniden taranmaz.
+     * @return Renkleri çevrilmiş şablon.
+     */
+    public MessageTemplate withColors() {
+        if (colors) {
+            return this;
+        }
+        String[] translated = new String[literals.length];
+        for (int i = 0; i < literals.length; i++) {
+            translated[i] = ChatColor.translateAlternateColorCodes('&', literals[i]);
+        }
+        return new MessageTemplate(source, translated, slots, tokens, formats, true);
+    }
+
+    /**
+     * Şablonu verilen argümanlarla tek geçişte işler. Biçimli yuvalar dilden bağımsız
+     * ({@link Locale#ROOT}) kurallarla biçimlendirilir.
+     * @param args Metoda geçirilen argümanlar (null olabilir).
+     * @return Placeholder'ları işlenmiş metin.
+     * @see #render(Object[], Locale)
+     */
+    public String render(Object[] args) {
+        return render(args, Locale.ROOT);
+    }
+
+    /**
+     * Şablonu verilen argümanlarla tek geçişte işler.
+     * Karşılığı olmayan bir yuva (eksik argüman) orijinal {@code {isim}} ifadesiyle bırakılır.
+     * @param args Metoda geçirilen argümanlar (null olabilir).
+     * @param locale Biçimli yuvaların (sayı, para, tarih, süre, çoğul) biçimlendirileceği dil.
+     * @return Placeholder'ları işlenmiş metin.
+     */
+    public String render(Object[] args, Locale locale) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(literalLength + slots.length * ESTIMATED_ARGUMENT_LENGTH);
+        for (int i = 0; i < slots.length; i++) {
+            int slot = slots[i];
+            boolean present = args != null && slot < args.length;
+            if (colors) {
+                appendColored(builder, literals[i], false);
+                appendColored(builder, present ? formatArgument(i, args[slot], locale) : tokens[i], true);
+            } else {
+                builder.append(literals[i]);
+                if (!present) {
+                    builder.append(tokens[i]);
+                } else if (formats[i] != null) {
+                    builder.append(formats[i].format(args[slot], locale));
+                } else {
+                    builder.append(args[slot]);
+                }
+            }
+        }
+        if (colors) {
+            appendColored(builder, literals[slots.length], false);
+        } else {
+            builder.append(literals[slots.length]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Bir parçayı, tüm metne {@code ChatColor.translateAlternateColorCodes('&', ...)} uygulanmış gibi ekler.
+     * Metnin o ana kadarki kısmı {@code &} ile bitiyor ve parça bir renk koduyla başlıyorsa, parçalar
+     * arasında bölünmüş kod (örn. {@code "&{renk}"}) burada birleştirilir.
+     * @param piece Eklenecek parça.
+     * @param translate Parçanın kendi içindeki kodların da çevrilmesi gerekiyorsa true (argümanlar);
+     *                  yüklemede çevrilmiş sabit parçalar için false.
+     */
+    private static void appendColored(StringBuilder builder, String piece, boolean translate) {
+        if (piece.isEmpty()) {
+            return;
+        }
+        int length = builder.length();
+        int start = 0;
+        if (length > 0 && builder.charAt(length - 1) == '&' && isColorCode(piece.charAt(0))) {
+            builder.setCharAt(length - 1, ChatColor.COLOR_CHAR);
+            builder.append(Character.toLowerCase(piece.charAt(0)));
+            start = 1;
+        }
+        if (translate && piece.indexOf('&', start) >= 0) {
+            builder.append(ChatColor.translateAlternateColorCodes('&', piece.substring(start)));
+        } else {
+            builder.append(piece, start, piece.length());
+        }
+    }
+
+    private static boolean isColorCode(char c) {
+        return "0123456789AaBbCcDdEeFfKkLlMmNnOoRr".indexOf(c) >= 0;
+    }
+
+    /**
+     * @return Şablonda hiç parametre yuvası yoksa true; bu durumda render her zaman kaynak metni döndürür.
+     */
+    public boolean isConstant() {
+        return slots.length == 0;
+    }
+
+    /**
+     * @return Şablonun derlendiği ham metin.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return Şablonun bellekte kapladığı tahmini alan (bayt); {@link StringPool} raporları için kullanılır.
+     */
+    long estimatedSize() {
+        long size = 64 + 4L * (literals.length + slots.length + tokens.length);
+        for (String literal : literals) {
+            size += StringPool.sizeOf(literal);
+        }
+        for (String token : tokens) {
+            size += StringPool.sizeOf(token);
+        }
+        return size;
+    }
+
+    String[] literals() {
+        return literals;
+    }
+
+    int[] slots() {
+        return slots;
+    }
+
+    String[] tokens() {
+        return tokens;
+    }
+
+    /**
+     * Bir yuvaya gelen argümanı, yuvanın biçimi varsa o biçimle metne çevirir.
+     * @param slotIndex Yuvanın şablondaki sırası.
+     * @param value Argüman değeri.
+     * @param locale Biçimlendirme dili.
+     * @return Yuvaya yazılacak metin.
+     */
+    String formatArgument(int slotIndex, Object value, Locale locale) {
+        ArgumentFormat format = formats[slotIndex];
+        return format != null ? format.format(value, locale) : String.valueOf(value);
+    }
+
+    boolean isFormatted(int slotIndex) {
+        return formats[slotIndex] != null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.bentahsin.languagemanager.util;
+
+import me.clip.placeholderapi.PlaceholderAPI;
+import org.bukkit.OfflinePlayer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PlaceholderAPI sonuçlarını oyuncu ve placeholder bazında, belirli bir süre boyunca önbelleğe alır.
+ * <p>
+ * Bir metindeki her {@code %tanımlayıcı%} ayrı ayrı çözülür ve sonucu süre (tick) dolana kadar
+ * yeniden kullanılır. Böylece her tick yenilenen bir skor tablosu, aynı pahalı genişletmeyi
+ * (bakiye, rütbe vb.) saniyede 20 kez çalıştırmaz. Süresi dolmuş kayıtlar düzenli aralıklarla temizlenir.
+ */
+public final class PlaceholderCache {
+
+    private static final long MILLIS_PER_TICK = 50;
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long ttlNanos;
+    private final ConcurrentHashMap<UUID, ConcurrentHashMap<String, Entry>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile long nextSweep;
+
+    /**
+     * @param ttlTicks Bir sonucun önbellekte geçerli kalacağı süre (tick, 1 tick = 50 ms).
+     */
+    public PlaceholderCache(long ttlTicks) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlTicks * MILLIS_PER_TICK);
+        this.nextSweep = System.nanoTime() + SWEEP_INTERVAL_NANOS;
+    }
+
+    /**
+     * Metindeki PlaceholderAPI placeholder'larını, önbellekteki geçerli sonuçları kullanarak işler.
+     * @param player Placeholder'ların çözüleceği oyuncu.
+     * @param text İşlenecek metin.
+     * @return Placeholder'ları işlenmiş metin.
+     */
+    public String apply(OfflinePlayer player, String text) {
+        long now = System.nanoTime();
+        if (now - nextSweep > 0) {
+            sweep(now);
+        }
+
+        Map<String, Entry> playerEntries = entries.computeIfAbsent(player.getUniqueId(), uuid -> new ConcurrentHashMap<>());
+        StringBuilder result = null;
+        int copied = 0;
+        int start = text.indexOf('%');
+        while (start >= 0) {
+            int end = text.indexOf('%', start + 1);
+            if (end < 0) {
+                break;
+            }
+            if (end == start + 1) {
+                start = end;
+                continue;
+            }
+
+            String placeholder = text.substring(start, end + 1);
+            Entry entry = playerEntries.get(placeholder);
+            if (entry == null || now - entry.expiresAt > 0) {
+                entry = new Entry(PlaceholderAPI.setPlaceholders(player, placeholder), now + ttlNanos);
+                playerEntries.put(placeholder, entry);
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+
+            if (result == null) {
+                result = new StringBuilder(text.length() + 16);
+            }
+            result.append(text, copied, start).append(entry.value);
+            copied = end + 1;
+            start = text.indexOf('%', copied);
+        }
+
+        if (result == null) {
+            return text;
+        }
+        return result.append(text, copied, text.length()).toString();
+    }
+
+    /**
+     * Önbellekteki tüm sonuçları siler.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return Önbellekten karşılanan placeholder sayısı.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return PlaceholderAPI'ye gidilmesi gereken placeholder sayısı.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void sweep(long now) {
+        nextSweep = now + SWEEP_INTERVAL_NANOS;
+        for (Map.Entry<UUID, ConcurrentHashMap<String, Entry>> player : entries.entrySet()) {
+            player.getValue().values().removeIf(entry -> now - entry.expiresAt > 0);
+            if (player.getValue().isEmpty()) {
+                entries.remove(player.getKey(), player.getValue());
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String value;
+        private final long expiresAt;
+
+        private Entry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
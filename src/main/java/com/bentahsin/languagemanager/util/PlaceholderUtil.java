@@ -1,7 +1,6 @@
 package com.bentahsin.languagemanager.util;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 
 /**
  * Placeholder işlemlerini merkezi olarak yöneten yardımcı sınıf.
@@ -20,6 +19,10 @@ public final class PlaceholderUtil {
      * <p>
      * Örnek: `welcomeMessage(String oyuncuAdi)` metodu "Notch" argümanı ile çağrıldığında,
      * metin içindeki `{oyuncuAdi}` ifadesi "Notch" ile değiştirilir.
+     * <p>
+     * Metin her çağrıda yeniden derlenir; sık kullanılan mesajlar için
+     * {@link MessageTemplate#compile(String, Method)} ile bir kez derleyip
+     * {@link MessageTemplate#render(Object[])} kullanılmalıdır.
      *
      * @param message İşlenecek ham metin.
      * @param method Çağrılan arayüz metodu.
@@ -31,12 +34,29 @@ public final class PlaceholderUtil {
             return message;
         }
 
-        String result = message;
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < args.length; i++) {
-            String placeholder = "{" + parameters[i].getName() + "}";
-            result = result.replace(placeholder, String.valueOf(args[i]));
+        return MessageTemplate.compile(message, method).render(args);
+    }
+
+    /**
+     * Bir metnin PlaceholderAPI placeholder'ı ({@code %tanımlayıcı%}) içerip içermediğini kontrol eder.
+     * PlaceholderAPI'nin kendi deseniyle ({@code %[^%]+%}) aynı kuralı kullanır, ancak PlaceholderAPI
+     * sınıflarını yüklemez; bu sayede yükleme anında güvenle çağrılabilir.
+     *
+     * @param message Kontrol edilecek metin.
+     * @return En az bir placeholder varsa true.
+     */
+    public static boolean containsPapiPlaceholders(String message) {
+        int start = message.indexOf('%');
+        while (start >= 0) {
+            int end = message.indexOf('%', start + 1);
+            if (end < 0) {
+                return false;
+            }
+            if (end > start + 1) {
+                return true;
+            }
+            start = end;
         }
-        return result;
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,122 @@
+package com.bentahsin.languagemanager.util;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Dillerin çoğul (cardinal) kurallarına göre bir sayının çoğul kategorisini seçer.
+ * <p>
+ * Kurallar, CLDR çoğul kurallarının tam sayılar için yaygın dillerde kullanılan alt kümesidir.
+ * Listede olmayan diller İngilizce kuralını (1 için "one", diğerleri için "other") kullanır.
+ * Kesirli sayılar, kategorisi olan dillerde genellikle "other" (Slav dillerinde "many"/"other") olur.
+ */
+public final class PluralRules {
+
+    public static final String ZERO = "zero";
+    public static final String ONE = "one";
+    public static final String TWO = "two";
+    public static final String FEW = "few";
+    public static final String MANY = "many";
+    public static final String OTHER = "other";
+
+    /**
+     * Bu sınıfın bir örneğinin oluşturulmasını engellemek için private constructor.
+     */
+    private PluralRules() {
+    }
+
+    /**
+     * @param locale Kuralı seçilecek dil.
+     * @param number Kategorisi belirlenecek sayı.
+     * @return "zero", "one", "two", "few", "many" veya "other".
+     */
+    public static String select(Locale locale, Number number) {
+        double value = Math.abs(number.doubleValue());
+        boolean integer = isInteger(number, value);
+        long n = (long) value;
+        long mod10 = n % 10;
+        long mod100 = n % 100;
+
+        switch (locale.getLanguage()) {
+            case "ja":
+            case "zh":
+            case "ko":
+            case "th":
+            case "vi":
+            case "id":
+            case "ms":
+                return OTHER;
+            case "fr":
+            case "pt":
+                return n <= 1 ? ONE : OTHER;
+            case "ru":
+            case "uk":
+            case "be":
+                if (!integer) {
+                    return OTHER;
+                }
+                if (mod10 == 1 && mod100 != 11) {
+                    return ONE;
+                }
+                if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) {
+                    return FEW;
+                }
+                return MANY;
+            case "pl":
+                if (!integer) {
+                    return OTHER;
+                }
+                if (n == 1) {
+                    return ONE;
+                }
+                if (mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14)) {
+                    return FEW;
+                }
+                return MANY;
+            case "cs":
+            case "sk":
+                if (!integer) {
+                    return MANY;
+                }
+                if (n == 1) {
+                    return ONE;
+                }
+                return n >= 2 && n <= 4 ? FEW : OTHER;
+            case "he":
+            case "iw":
+                if (integer && n == 1) {
+                    return ONE;
+                }
+                return integer && n == 2 ? TWO : OTHER;
+            case "ar":
+                if (!integer) {
+                    return OTHER;
+                }
+                if (n == 0) {
+                    return ZERO;
+                }
+                if (n == 1) {
+                    return ONE;
+                }
+                if (n == 2) {
+                    return TWO;
+                }
+                if (mod100 >= 3 && mod100 <= 10) {
+                    return FEW;
+                }
+                return mod100 >= 11 ? MANY : OTHER;
+            default:
+                return integer && n == 1 ? ONE : OTHER;
+        }
+    }
+
+    private static boolean isInteger(Number number, double value) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return true;
+        }
+        if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).stripTrailingZeros().scale() <= 0;
+        }
+        return value == Math.rint(value);
+    }
+}
@@ -0,0 +1,217 @@
+package com.bentahsin.languagemanager.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Bir LanguageManager'ın yüklediği tüm dil dosyaları ve arayüzler arasında ortak kullanılan metin havuzu.
+ * <p>
+ * Aynı metin (ortak önekler, yalnızca renk kodu içeren satırlar, tekrarlanan lore satırları, diğer dillere
+ * çevrilmeden kopyalanmış metinler ve her dil dosyasında tekrarlanan anahtarlar) bellekte tek bir örnek olarak
+ * tutulur. Aynı metin ve aynı parametre isimleriyle derlenen şablonlar da paylaşılır.
+ * <p>
+ * Havuz girdileri zayıf referanslarla tutulur; yeniden yüklemeden sonra hiçbir katalog veya şablon tarafından
+ * kullanılmayan metinler çöp toplayıcı tarafından temizlenir. Havuz yalnızca yükleme sırasında kullanılır;
+ * işleme (render) yolunda hiçbir maliyeti yoktur.
+ */
+public final class StringPool {
+
+    /**
+     * Bir String nesnesinin ve karakter dizisinin başlık alanları için tahmini bayt sayısı.
+     */
+    private static final int STRING_OVERHEAD = 40;
+
+    private final Map<String, PooledString> strings = new WeakHashMap<>();
+    private final Map<String, List<TemplateVariant>> templates = new WeakHashMap<>();
+    private long stringLookups;
+    private long templateLookups;
+
+    /**
+     * Verilen metne eşit, havuzdaki tek örneği döndürür. Havuzda yoksa metnin kendisi havuza eklenir.
+     * @param value Havuzlanacak metin (null olabilir).
+     * @return Havuzdaki eşit metin; value null ise null.
+     */
+    public synchronized String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        stringLookups++;
+        PooledString reference = strings.get(value);
+        String pooled = reference != null ? reference.get() : null;
+        if (pooled == null) {
+            strings.put(value, new PooledString(value));
+            return value;
+        }
+        if (pooled != value) {
+            reference.shared = true;
+        }
+        return pooled;
+    }
+
+    /**
+     * Bir metni derler; aynı metin, aynı parametre isimleri ve aynı renk ayarıyla daha önce derlenmiş
+     * bir şablon varsa onu döndürür. Şablonlar değişmez olduğundan güvenle paylaşılabilir.
+     * @param message Derlenecek ham metin.
+     * @param parameterNames Metot parametrelerinin isimleri, tanım sırasıyla.
+     * @param colors Sabit parçalardaki renk kodları önceden çevrilecekse true.
+     * @return Derlenmiş, paylaşılan şablon.
+     */
+    public MessageTemplate template(String message, String[] parameterNames, boolean colors) {
+        String source = intern(message != null ? message : "");
+        synchronized (this) {
+            templateLookups++;
+            List<TemplateVariant> variants = templates.get(source);
+            if (variants != null) {
+                Iterator<TemplateVariant> iterator = variants.iterator();
+                while (iterator.hasNext()) {
+                    TemplateVariant variant = iterator.next();
+                    MessageTemplate template = variant.template.get();
+                    if (template == null) {
+                        iterator.remove();
+                    } else if (variant.colors == colors && Arrays.equals(variant.parameterNames, parameterNames)) {
+                        variant.shared = true;
+                        return template;
+                    }
+                }
+            }
+        }
+
+        MessageTemplate template = MessageTemplate.compile(source, parameterNames);
+        if (colors) {
+            template = template.withColors();
+        }
+        synchronized (this) {
+            templates.computeIfAbsent(source, key -> new ArrayList<>(1))
+                    .add(new TemplateVariant(parameterNames, colors, template));
+        }
+        return template;
+    }
+
+    /**
+     * Havuzun anlık görüntüsünü alır. Tekilleştirme sayıları ve tasarruf, yalnızca hâlâ yaşayan girdiler
+     * üzerinden hesaplanır ve her paylaşılan örnek bir kez sayılır; aynı metinlerin yeniden yüklemelerde
+     * tekrar havuza gönderilmesi bu değerleri büyütmez. Sorgu sayıları ise toplamdır.
+     * @return Havuzun o anki durumu.
+     */
+    public synchronized Stats stats() {
+        long deduplicatedStrings = 0;
+        long deduplicatedTemplates = 0;
+        long savedBytes = 0;
+        for (PooledString reference : strings.values()) {
+            String pooled = reference.get();
+            if (pooled != null && reference.shared) {
+                deduplicatedStrings++;
+                savedBytes += sizeOf(pooled);
+            }
+        }
+        for (List<TemplateVariant> variants : templates.values()) {
+            for (TemplateVariant variant : variants) {
+                MessageTemplate template = variant.template.get();
+                if (template != null && variant.shared) {
+                    deduplicatedTemplates++;
+                    savedBytes += template.estimatedSize();
+                }
+            }
+        }
+        return new Stats(strings.size(), stringLookups, deduplicatedStrings,
+                templates.size(), templateLookups, deduplicatedTemplates, savedBytes);
+    }
+
+    static long sizeOf(String value) {
+        return STRING_OVERHEAD + 2L * value.length();
+    }
+
+    private static final class PooledString extends WeakReference<String> {
+        boolean shared;
+
+        PooledString(String value) {
+            super(value);
+        }
+    }
+
+    private static final class TemplateVariant {
+        final String[] parameterNames;
+        final boolean colors;
+        final WeakReference<MessageTemplate> template;
+        boolean shared;
+
+        TemplateVariant(String[] parameterNames, boolean colors, MessageTemplate template) {
+            this.parameterNames = parameterNames;
+            this.colors = colors;
+            this.template = new WeakReference<>(template);
+        }
+    }
+
+    /**
+     * Havuzun değişmez istatistikleri.
+     */
+    public static final class Stats {
+        private final int pooledStrings;
+        private final long stringLookups;
+        private final long deduplicatedStrings;
+        private final int pooledTemplateSources;
+        private final long templateLookups;
+        private final long deduplicatedTemplates;
+        private final long estimatedSavedBytes;
+
+        Stats(int pooledStrings, long stringLookups, long deduplicatedStrings, int pooledTemplateSources,
+              long templateLookups, long deduplicatedTemplates, long estimatedSavedBytes) {
+            this.pooledStrings = pooledStrings;
+            this.stringLookups = stringLookups;
+            this.deduplicatedStrings = deduplicatedStrings;
+            this.pooledTemplateSources = pooledTemplateSources;
+            this.templateLookups = templateLookups;
+            this.deduplicatedTemplates = deduplicatedTemplates;
+            this.estimatedSavedBytes = estimatedSavedBytes;
+        }
+
+        /**
+         * @return Havuzda hâlâ kullanımda olan farklı metin sayısı.
+         */
+        public int getPooledStrings() { return pooledStrings; }
+
+        /**
+         * @return Havuza gönderilen toplam metin sayısı.
+         */
+        public long getStringLookups() { return stringLookups; }
+
+        /**
+         * @return Havuzda hâlâ kullanımda olan ve en az bir kopyanın yerine geçmiş farklı metin sayısı.
+         */
+        public long getDeduplicatedStrings() { return deduplicatedStrings; }
+
+        /**
+         * @return Havuzda şablonu bulunan farklı kaynak metin sayısı.
+         */
+        public int getPooledTemplateSources() { return pooledTemplateSources; }
+
+        /**
+         * @return İstenen toplam şablon sayısı.
+         */
+        public long getTemplateLookups() { return templateLookups; }
+
+        /**
+         * @return Havuzda hâlâ kullanımda olan ve en az bir kez yeniden derlenmek yerine paylaşılmış şablon sayısı.
+         */
+        public long getDeduplicatedTemplates() { return deduplicatedTemplates; }
+
+        /**
+         * @return Tekilleştirme sayesinde ayrılmayan tahmini bellek (bayt); paylaşılan her örnek için bir kopya
+         * sayılır, bu yüzden bir alt sınırdır. Nesne başlıkları ve karakter başına iki bayt üzerinden hesaplanan
+         * bir yaklaşıktır.
+         */
+        public long getEstimatedSavedBytes() { return estimatedSavedBytes; }
+
+        @Override
+        public String toString() {
+            return deduplicatedStrings + "/" + pooledStrings + " strings and "
+                    + deduplicatedTemplates + " templates shared (" + stringLookups + " string and "
+                    + templateLookups + " template lookups), ~" + (estimatedSavedBytes / 1024) + " KB saved";
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.bentahsin.languagemanager;
+
+import com.bentahsin.languagemanager.annotations.Message;
+import com.bentahsin.languagemanager.annotations.Messages;
+import com.bentahsin.languagemanager.proxy.MessageProxyHandler;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Yeniden yükleme sırasında ana thread dışında yapılan render'ların thread güvenliğini doğrular.
+ * <p>
+ * Birkaç thread sürekli mesaj işlerken bir thread dil dosyasını boyutları farklı iki sürüm arasında
+ * değiştirip yeniden yükler. Her render sonucu iki sürümden birinin tam çıktısı olmalıdır; yarım
+ * yayınlanmış bir paket, null değer veya iki sürümden karışık satırlar hata sayılır.
+ */
+public class ConcurrentReloadTest {
+
+    private static final int RENDER_THREADS = 3;
+    private static final int RELOADS = 200;
+
+    private File dataFolder;
+    private LanguageManager manager;
+    private ReloadMessages messages;
+
+    @Before
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("languagemanager-test").toFile();
+        write("Hello {name}", "A");
+        LanguageManagerBuilder builder = LanguageManager.create(plugin(dataFolder)).withLocale("en");
+        builder.register(ReloadMessages.class);
+        Map<Class<?>, Object> proxies = new ConcurrentHashMap<>();
+        List<MessageProxyHandler> fileHandlers = new CopyOnWriteArrayList<>();
+        Map<Class<?>, Duration> timings = new ConcurrentHashMap<>();
+        proxies.put(ReloadMessages.class, builder.initialize(ReloadMessages.class, fileHandlers, timings));
+        manager = new LanguageManager(builder.getPlugin(), builder, proxies, fileHandlers, timings, null);
+        messages = manager.get(ReloadMessages.class);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        manager.disable();
+        try (Stream<Path> paths = Files.walk(dataFolder.toPath())) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void rendersEitherVersionDuringReloads() throws Exception {
+        String greetingA = messages.greeting("Steve");
+        List<String> linesA = messages.lines("Steve");
+        write("Welcome back to the server, {name}!", "B, which is a much longer second line");
+        manager.reload();
+        String greetingB = messages.greeting("Steve");
+        List<String> linesB = messages.lines("Steve");
+        assertEquals("Hello Steve", greetingA);
+        assertEquals("Welcome back to the server, Steve!", greetingB);
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(RENDER_THREADS + 1);
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger renders = new AtomicInteger();
+
+        for (int i = 0; i < RENDER_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    while (reloading.get() && failure.get() == null) {
+                        String greeting = messages.greeting("Steve");
+                        if (!greetingA.equals(greeting) && !greetingB.equals(greeting)) {
+                            throw new AssertionError("Torn string render: " + greeting);
+                        }
+                        List<String> lines = messages.lines("Steve");
+                        if (!linesA.equals(lines) && !linesB.equals(lines)) {
+                            throw new AssertionError("Torn list render: " + lines);
+                        }
+                        renders.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    finished.countDown();
+                }
+            }, "render-" + i).start();
+        }
+        new Thread(() -> {
+            try {
+                start.await();
+                for (int i = 0; i < RELOADS && failure.get() == null; i++) {
+                    if (i % 2 == 0) {
+                        write("Hello {name}", "A");
+                    } else {
+                        write("Welcome back to the server, {name}!", "B, which is a much longer second line");
+                    }
+                    manager.reload();
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                reloading.set(false);
+                finished.countDown();
+            }
+        }, "reload").start();
+
+        start.countDown();
+        assertTrue("Render and reload threads did not finish in time.", finished.await(60, TimeUnit.SECONDS));
+        assertNull(String.valueOf(failure.get()), failure.get());
+        assertTrue(renders.get() > 0);
+    }
+
+    @Test
+    public void reloadSeesSameLengthEditWithUnchangedTimestamp() throws Exception {
+        File file = new File(dataFolder, "reload_en.yml");
+        long modified = file.lastModified();
+        assertEquals("Hello Steve", messages.greeting("Steve"));
+
+        write("Hallo {name}", "A");
+        assertTrue(file.setLastModified(modified));
+        manager.reload();
+
+        assertEquals("Hallo Steve", messages.greeting("Steve"));
+    }
+
+    private void write(String greeting, String version) throws IOException {
+        String yaml = "greeting: '" + greeting + "'\n"
+                + "lines:\n"
+                + "- 'First line " + version + "'\n"
+                + "- 'Second line for {name}'\n";
+        Files.write(new File(dataFolder, "reload_en.yml").toPath(), yaml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static JavaPlugin plugin(File dataFolder) {
+        synchronized (Bukkit.class) {
+            if (Bukkit.getServer() == null) {
+                Logger logger = Logger.getLogger("LanguageManager-Test");
+                logger.setUseParentHandlers(false);
+                Handler handler = new ConsoleHandler();
+                handler.setLevel(Level.WARNING);
+                logger.addHandler(handler);
+                BukkitScheduler scheduler = scheduler();
+                Bukkit.setServer((Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "getLogger":
+                                    return logger;
+                                case "getScheduler":
+                                    return scheduler;
+                                case "getName":
+                                    return "LanguageManager-Test";
+                                case "getVersion":
+                                case "getBukkitVersion":
+                                    return "1.12.2-R0.1-SNAPSHOT";
+                                default:
+                                    return defaultValue(method.getReturnType());
+                            }
+                        }));
+            }
+        }
+        PluginDescriptionFile description = new PluginDescriptionFile("LanguageManagerTest", "1.0", TestPlugin.class.getName());
+        return new TestPlugin(new JavaPluginLoader(Bukkit.getServer()), description, dataFolder, new File(dataFolder, "plugin.jar"));
+    }
+
+    /**
+     * Tek seferlik görevleri çağıran thread'de hemen çalıştıran, tekrarlayan görevleri ise çalıştırmayan
+     * bir zamanlayıcı. Testte ana thread olmadığı için bekleyen yazmalar böylece hemen diske ulaşır.
+     */
+    private static BukkitScheduler scheduler() {
+        BukkitTask task = (BukkitTask) Proxy.newProxyInstance(BukkitTask.class.getClassLoader(), new Class<?>[]{BukkitTask.class},
+                (proxy, method, args) -> defaultValue(method.getReturnType()));
+        return (BukkitScheduler) Proxy.newProxyInstance(BukkitScheduler.class.getClassLoader(), new Class<?>[]{BukkitScheduler.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("runTask") && !method.getName().startsWith("runTaskTimer")
+                            && args != null && args.length > 1 && args[1] instanceof Runnable) {
+                        ((Runnable) args[1]).run();
+                    }
+                    return method.getReturnType() == BukkitTask.class ? task : defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        return 0;
+    }
+
+    @Messages(filePrefix = "reload")
+    public interface ReloadMessages {
+        @Message(key = "greeting", value = "Hello {name}")
+        String greeting(String name);
+
+        @Message(key = "lines", value = "First line")
+        List<String> lines(String name);
+    }
+
+    static final class TestPlugin extends JavaPlugin {
+        TestPlugin(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+            super(loader, description, dataFolder, file);
+        }
+    }
+}